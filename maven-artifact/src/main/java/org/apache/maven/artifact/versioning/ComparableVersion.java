@@ -22,10 +22,12 @@
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Deque;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 
@@ -66,6 +68,21 @@ public class ComparableVersion implements Comparable<ComparableVersion> {
 
     private static final int MAX_LONGITEM_LENGTH = 18;
 
+    private static final int MAX_CACHED_VERSIONS = 16384;
+
+    /**
+     * The parsed items of the most recently used versions. Items are never modified once parsed, so instances parsed
+     * from the same string share them. The least recently used versions are evicted beyond
+     * {@link #MAX_CACHED_VERSIONS}, so long-running processes parsing ever new versions do not keep them all.
+     */
+    private static final Map<String, ListItem> PARSED_VERSIONS =
+            Collections.synchronizedMap(new LinkedHashMap<String, ListItem>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, ListItem> eldest) {
+                    return size() > MAX_CACHED_VERSIONS;
+                }
+            });
+
     private String value;
 
     private String canonical;
@@ -331,6 +348,11 @@ private static class StringItem implements Item {
 
         private final String value;
 
+        /**
+         * The {@link #comparableQualifier(String) comparable qualifier} of the value, computed once.
+         */
+        private final String comparable;
+
         StringItem(String value, boolean followedByDigit) {
             if (followedByDigit && value.length() == 1) {
                 // a1 = alpha-1, b1 = beta-1, m1 = milestone-1
@@ -348,6 +370,7 @@ private static class StringItem implements Item {
                 }
             }
             this.value = ALIASES.getProperty(value, value);
+            this.comparable = comparableQualifier(this.value);
         }
 
         @Override
@@ -389,7 +412,7 @@ public static String comparableQualifier(String qualifier) {
         public int compareTo(Item item) {
             if (item == null) {
                 // 1-rc < 1, 1-ga > 1
-                return comparableQualifier(value).compareTo(RELEASE_VERSION_INDEX);
+                return comparable.compareTo(RELEASE_VERSION_INDEX);
             }
             switch (item.getType()) {
                 case INT_ITEM:
@@ -398,7 +421,7 @@ public int compareTo(Item item) {
                     return -1; // 1.any < 1.1 ?
 
                 case STRING_ITEM:
-                    return comparableQualifier(value).compareTo(comparableQualifier(((StringItem) item).value));
+                    return comparable.compareTo(((StringItem) item).comparable);
 
                 case COMBINATION_ITEM:
                     int result = this.compareTo(((CombinationItem) item).getStringPart());
@@ -578,8 +601,8 @@ public int compareTo(Item item) {
                     return 0; // 1-0 = 1- (normalize) = 1
                 }
                 // Compare the entire list of items with null - not just the first one, MNG-6964
-                for (Item i : this) {
-                    int result = i.compareTo(null);
+                for (int i = 0, size = size(); i < size; i++) {
+                    int result = get(i).compareTo(null);
                     if (result != 0) {
                         return result;
                     }
@@ -598,12 +621,13 @@ public int compareTo(Item item) {
                     return 1; // 1-1 > 1-sp
 
                 case LIST_ITEM:
-                    Iterator<Item> left = iterator();
-                    Iterator<Item> right = ((ListItem) item).iterator();
+                    ListItem other = (ListItem) item;
+                    int leftSize = size();
+                    int rightSize = other.size();
 
-                    while (left.hasNext() || right.hasNext()) {
-                        Item l = left.hasNext() ? left.next() : null;
-                        Item r = right.hasNext() ? right.next() : null;
+                    for (int i = 0, n = Math.max(leftSize, rightSize); i < n; i++) {
+                        Item l = i < leftSize ? get(i) : null;
+                        Item r = i < rightSize ? other.get(i) : null;
 
                         // if this is shorter, then invert the compare and mul with -1
                         int result = l == null ? (r == null ? 0 : -1 * r.compareTo(l)) : l.compareTo(r);
@@ -660,6 +684,13 @@ public ComparableVersion(String version) {
     @SuppressWarnings("checkstyle:innerassignment")
     public final void parseVersion(String version) {
         this.value = version;
+        this.canonical = null;
+
+        ListItem parsed = PARSED_VERSIONS.get(version);
+        if (parsed != null) {
+            items = parsed;
+            return;
+        }
 
         items = new ListItem();
 
@@ -749,6 +780,8 @@ public final void parseVersion(String version) {
             list = (ListItem) stack.pop();
             list.normalize();
         }
+
+        PARSED_VERSIONS.putIfAbsent(value, items);
     }
 
     private static Item parseItem(boolean isDigit, String buf) {
@@ -787,6 +820,9 @@ private static String stripLeadingZeroes(String buf) {
 
     @Override
     public int compareTo(ComparableVersion o) {
+        if (items == o.items) {
+            return 0;
+        }
         return items.compareTo(o.items);
     }
 
@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.artifact.versioning;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures parsing and comparing the kind of versions found in dependency graphs, where the same versions are parsed
+ * and compared over and over again.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(time = 10)
+public class ComparableVersionPerfTest {
+
+    private static final String[] VERSIONS = {
+        "1",
+        "1.0",
+        "1.0.0",
+        "1.0.1",
+        "1.1",
+        "1.2.3",
+        "1.2.3-SNAPSHOT",
+        "1.2.3-alpha-1",
+        "1.2.3-beta2",
+        "1.2.3-rc1",
+        "1.2.3.Final",
+        "1.2.3-sp1",
+        "2.0.0-M1",
+        "2.0.0-M10",
+        "2.15.2",
+        "3.0.0-RC2",
+        "3.9.6",
+        "4.0.0-alpha-8",
+        "4.13.2",
+        "5.10.0",
+        "20230227",
+        "1.0.0.v20220101-1200",
+        "9.4.51.v20230217",
+        "32.1.2-jre"
+    };
+
+    @State(Scope.Benchmark)
+    public static class VersionsState {
+        List<ComparableVersion> versions;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            versions = new ArrayList<>();
+            for (String version : VERSIONS) {
+                versions.add(new ComparableVersion(version));
+            }
+        }
+    }
+
+    @Benchmark
+    public int parse() {
+        int i = 0;
+        for (String version : VERSIONS) {
+            i += new ComparableVersion(version).hashCode();
+        }
+        return i;
+    }
+
+    @Benchmark
+    public int compare(VersionsState state) {
+        int i = 0;
+        for (ComparableVersion left : state.versions) {
+            for (ComparableVersion right : state.versions) {
+                i += left.compareTo(right);
+            }
+        }
+        return i;
+    }
+
+    /**
+     * <p>main.</p>
+     *
+     * @param args a {@link String} object.
+     * @throws org.openjdk.jmh.runner.RunnerException if any.
+     */
+    public static void main(String... args) throws RunnerException {
+        Options opts = new OptionsBuilder()
+                .include(ComparableVersionPerfTest.class.getSimpleName())
+                .forks(1)
+                .build();
+        new Runner(opts).run();
+    }
+}
@@ -368,11 +368,13 @@ void testLocaleIndependent() {
     @Test
     void testReuse() {
         ComparableVersion c1 = new ComparableVersion("1");
+        assertEquals("1", c1.getCanonical());
         c1.parseVersion("2");
 
         Comparable<?> c2 = newComparable("2");
 
         assertEquals(c1, c2, "reused instance should be equivalent to new instance");
+        assertEquals("2", c1.getCanonical(), "reused instance should not keep the previous canonical form");
     }
 
     /**
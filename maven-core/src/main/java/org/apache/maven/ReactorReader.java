@@ -69,6 +69,16 @@ class ReactorReader implements MavenWorkspaceReader {
 
     public static final String PROJECT_LOCAL_REPO = "project-local-repo";
 
+    /**
+     * How artifacts are installed into the project local repository: {@code copy} (the default) or {@code link} to
+     * create hard links, falling back to a copy where linking is not possible.
+     */
+    static final String PROJECT_LOCAL_REPO_MODE_KEY = "maven.projectLocalRepository.mode";
+
+    private static final String MODE_COPY = "copy";
+
+    private static final String MODE_LINK = "link";
+
     private static final Collection<String> COMPILE_PHASE_TYPES = new HashSet<>(
             Arrays.asList("jar", "ejb-client", "war", "rar", "ejb3", "par", "sar", "wsr", "har", "app-client"));
 
@@ -79,8 +89,11 @@ class ReactorReader implements MavenWorkspaceReader {
     // groupId -> (artifactId -> (version -> project)))
     private Map<String, Map<String, Map<String, MavenProject>>> projects;
     private Path projectLocalRepository;
+    private volatile String projectLocalRepositoryMode;
     // projectId -> Deque<lifecycle>
     private final Map<String, Deque<String>> lifecycles = new ConcurrentHashMap<>();
+    // output directory -> state of its files, dropped whenever a mojo of the owning project runs
+    private final Map<Path, OutputDirectoryState> outputDirectoryStates = new ConcurrentHashMap<>();
 
     @Inject
     ReactorReader(MavenSession session) {
@@ -207,7 +220,7 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
             return true;
         }
 
-        try (Stream<Path> outputFiles = Files.walk(outputDirectory)) {
+        try {
             // Not using File#lastModified() to avoid a Linux JDK8 milliseconds precision bug: JDK-8177809.
             long artifactLastModified =
                     Files.getLastModifiedTime(packagedArtifactFile.toPath()).toMillis();
@@ -220,21 +233,13 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
                 }
             }
 
-            for (Path outputFile : (Iterable<Path>) outputFiles::iterator) {
-                if (Files.isDirectory(outputFile)) {
-                    continue;
-                }
-
-                long outputFileLastModified =
-                        Files.getLastModifiedTime(outputFile).toMillis();
-                if (outputFileLastModified > artifactLastModified) {
-                    LOGGER.warn(
-                            "File '{}' is more recent than the packaged artifact for '{}', "
-                                    + "please run a full `mvn package` build",
-                            relativizeOutputFile(outputFile),
-                            project.getArtifactId());
-                    return true;
-                }
+            OutputDirectoryState state = getOutputDirectoryState(outputDirectory);
+            if (state.lastModified > artifactLastModified) {
+                LOGGER.warn(
+                        "File '{}' is more recent than the packaged artifact for '{}', "
+                                + "please run a full `mvn package` build",
+                        relativizeOutputFile(state.lastModifiedFile),
+                        project.getArtifactId());
             }
 
             return true;
@@ -248,6 +253,25 @@ private boolean isPackagedArtifactUpToDate(MavenProject project, File packagedAr
         }
     }
 
+    /**
+     * Gets the state of the given output directory, scanning it only if it is not known yet or may have been changed
+     * by a mojo since the last scan.
+     */
+    private OutputDirectoryState getOutputDirectoryState(Path outputDirectory) throws IOException {
+        OutputDirectoryState state = outputDirectoryStates.get(outputDirectory);
+        if (state == null) {
+            state = OutputDirectoryState.scan(outputDirectory);
+            outputDirectoryStates.put(outputDirectory, state);
+        }
+        return state;
+    }
+
+    private void invalidateOutputDirectoryState(MavenProject project) {
+        if (project != null && project.getBuild().getOutputDirectory() != null) {
+            outputDirectoryStates.remove(Paths.get(project.getBuild().getOutputDirectory()));
+        }
+    }
+
     private boolean hasBeenPackagedDuringThisSession(MavenProject project) {
         boolean packaged = false;
         for (String phase : getLifecycles(project)) {
@@ -316,7 +340,12 @@ private File findInProjectLocalRepository(Artifact artifact) {
     private void processEvent(ExecutionEvent event) {
         MavenProject project = event.getProject();
         switch (event.getType()) {
+            case MojoSucceeded:
+            case MojoFailed:
+                invalidateOutputDirectoryState(project);
+                break;
             case MojoStarted:
+                invalidateOutputDirectoryState(project);
                 String phase = event.getMojoExecution().getLifecyclePhase();
                 if (phase != null) {
                     Deque<String> phases = getLifecycles(project);
@@ -402,20 +431,62 @@ private boolean isRegularFile(Artifact artifact) {
     }
 
     private void installIntoProjectLocalRepository(Artifact artifact) {
+        Path source = artifact.getFile().toPath();
         Path target = getArtifactPath(artifact);
         try {
-            LOGGER.info("Copying {} to project local repository", artifact);
             Files.createDirectories(target.getParent());
-            Files.copy(
-                    artifact.getFile().toPath(),
-                    target,
-                    StandardCopyOption.REPLACE_EXISTING,
-                    StandardCopyOption.COPY_ATTRIBUTES);
+            if (isLinkingIntoProjectLocalRepository() && linkIntoProjectLocalRepository(source, target)) {
+                LOGGER.info("Linking {} into project local repository", artifact);
+                return;
+            }
+            LOGGER.info("Copying {} to project local repository", artifact);
+            Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.COPY_ATTRIBUTES);
         } catch (IOException e) {
             LOGGER.error("Error while copying artifact to project local repository", e);
         }
     }
 
+    /**
+     * Replaces the target with a hard link to the source.
+     *
+     * @return {@code true} if the target is now a link to the source, {@code false} if it has to be copied instead
+     */
+    private boolean linkIntoProjectLocalRepository(Path source, Path target) {
+        try {
+            if (Files.exists(target) && Files.isSameFile(source, target)) {
+                return true;
+            }
+            Files.deleteIfExists(target);
+            Files.createLink(target, source);
+            return true;
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            // e.g. a different file store, or a file system without hard links
+            LOGGER.debug("Could not link {} to {}, falling back to copy", source, target, e);
+            return false;
+        }
+    }
+
+    private boolean isLinkingIntoProjectLocalRepository() {
+        if (projectLocalRepositoryMode == null) {
+            String mode = session.getUserProperties().getProperty(PROJECT_LOCAL_REPO_MODE_KEY);
+            if (mode == null) {
+                mode = session.getSystemProperties().getProperty(PROJECT_LOCAL_REPO_MODE_KEY, MODE_COPY);
+            }
+            if (!MODE_COPY.equals(mode) && !MODE_LINK.equals(mode)) {
+                LOGGER.warn(
+                        "Unknown value '{}' for {}, expected '{}' or '{}', using '{}'",
+                        mode,
+                        PROJECT_LOCAL_REPO_MODE_KEY,
+                        MODE_COPY,
+                        MODE_LINK,
+                        MODE_COPY);
+                mode = MODE_COPY;
+            }
+            projectLocalRepositoryMode = mode;
+        }
+        return MODE_LINK.equals(projectLocalRepositoryMode);
+    }
+
     private Path getArtifactPath(Artifact artifact) {
         String groupId = artifact.getGroupId();
         String artifactId = artifact.getArtifactId();
@@ -476,6 +547,41 @@ private Map<String, Map<String, Map<String, MavenProject>>> getProjects() {
         return projects;
     }
 
+    /**
+     * The files of an output directory, summarized by the most recently modified one.
+     */
+    private static final class OutputDirectoryState {
+
+        private final long lastModified;
+
+        private final Path lastModifiedFile;
+
+        private OutputDirectoryState(long lastModified, Path lastModifiedFile) {
+            this.lastModified = lastModified;
+            this.lastModifiedFile = lastModifiedFile;
+        }
+
+        static OutputDirectoryState scan(Path outputDirectory) throws IOException {
+            long lastModified = Long.MIN_VALUE;
+            Path lastModifiedFile = null;
+            try (Stream<Path> outputFiles = Files.walk(outputDirectory)) {
+                for (Path outputFile : (Iterable<Path>) outputFiles::iterator) {
+                    if (Files.isDirectory(outputFile)) {
+                        continue;
+                    }
+
+                    long outputFileLastModified =
+                            Files.getLastModifiedTime(outputFile).toMillis();
+                    if (outputFileLastModified > lastModified) {
+                        lastModified = outputFileLastModified;
+                        lastModifiedFile = outputFile;
+                    }
+                }
+            }
+            return new OutputDirectoryState(lastModified, lastModifiedFile);
+        }
+    }
+
     /**
      * Singleton class used to receive events by implementing the EventSpy.
      * It simply forwards all {@code ExecutionEvent}s to the {@code ReactorReader}.
@@ -0,0 +1,223 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.configuration.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.inject.TypeLiteral;
+import org.codehaus.plexus.component.configurator.ComponentConfigurationException;
+import org.codehaus.plexus.component.configurator.ConfigurationListener;
+import org.codehaus.plexus.component.configurator.converters.ConfigurationConverter;
+import org.codehaus.plexus.component.configurator.converters.ParameterizedConfigurationConverter;
+import org.codehaus.plexus.component.configurator.converters.lookup.ConverterLookup;
+import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluator;
+import org.codehaus.plexus.configuration.PlexusConfiguration;
+import org.eclipse.sisu.plexus.CompositeBeanHelper;
+import org.eclipse.sisu.plexus.TypeArguments;
+
+/**
+ * Sets the configured properties of a bean the same way {@link CompositeBeanHelper} does, but looks up the setter
+ * and field of a property only once per bean class. The helper scans all public methods of the bean class for every
+ * property of every configured bean, which adds up when the same mojos are configured for each project of a reactor.
+ * Only the values are converted for each bean.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+class BeanPropertyBinder {
+
+    private static final ClassValue<Map<String, PropertyBinding>> BINDINGS =
+            new ClassValue<Map<String, PropertyBinding>>() {
+                @Override
+                protected Map<String, PropertyBinding> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private final ConverterLookup lookup;
+
+    private final ClassLoader loader;
+
+    private final ExpressionEvaluator evaluator;
+
+    private final ConfigurationListener listener;
+
+    BeanPropertyBinder(
+            ConverterLookup lookup, ClassLoader loader, ExpressionEvaluator evaluator, ConfigurationListener listener) {
+        this.lookup = lookup;
+        this.loader = loader;
+        this.evaluator = evaluator;
+        this.listener = listener;
+    }
+
+    /**
+     * Sets a property of the given bean, preferring a setter or adder over direct field access.
+     *
+     * @see CompositeBeanHelper#setProperty(Object, String, Class, PlexusConfiguration)
+     */
+    void setProperty(Object bean, String propertyName, Class<?> valueType, PlexusConfiguration configuration)
+            throws ComponentConfigurationException {
+        Class<?> beanType = bean.getClass();
+        PropertyBinding binding = getBinding(beanType, propertyName);
+
+        Throwable problem = null;
+        Object value = null;
+
+        if (binding.setter != null) {
+            try {
+                Class<?> rawPropertyType = binding.setterType.getRawType();
+                if (valueType != null && rawPropertyType.isAssignableFrom(valueType)) {
+                    rawPropertyType = valueType;
+                }
+                value = convertProperty(beanType, rawPropertyType, binding.setterType.getType(), configuration);
+                if (value != null) {
+                    if (listener != null) {
+                        listener.notifyFieldChangeUsingSetter(propertyName, value, bean);
+                    }
+                    binding.setter.invoke(bean, value);
+                    return;
+                }
+            } catch (Exception | LinkageError e) {
+                problem = e;
+            }
+        }
+
+        if (binding.field != null) {
+            try {
+                Class<?> rawPropertyType = binding.fieldType.getRawType();
+                if (!rawPropertyType.isInstance(value)) {
+                    if (valueType != null && rawPropertyType.isAssignableFrom(valueType)) {
+                        rawPropertyType = valueType;
+                    }
+                    value = convertProperty(beanType, rawPropertyType, binding.fieldType.getType(), configuration);
+                }
+                if (value != null) {
+                    if (listener != null) {
+                        listener.notifyFieldChangeUsingReflection(propertyName, value, bean);
+                    }
+                    binding.setField(bean, value);
+                    return;
+                }
+            } catch (Exception | LinkageError e) {
+                if (problem == null) {
+                    problem = e;
+                }
+            }
+        }
+
+        if (problem instanceof ComponentConfigurationException) {
+            throw (ComponentConfigurationException) problem;
+        } else if (problem != null) {
+            throw new ComponentConfigurationException(
+                    configuration, "Cannot set '" + propertyName + "' in " + beanType, problem);
+        } else if (binding.setter == null && binding.field == null) {
+            throw new ComponentConfigurationException(
+                    configuration, "Cannot find '" + propertyName + "' in " + beanType);
+        }
+    }
+
+    private Object convertProperty(
+            Class<?> beanType, Class<?> rawPropertyType, Type genericPropertyType, PlexusConfiguration configuration)
+            throws ComponentConfigurationException {
+        ConfigurationConverter converter = lookup.lookupConverterForType(rawPropertyType);
+        if (!(genericPropertyType instanceof Class<?>) && converter instanceof ParameterizedConfigurationConverter) {
+            Type[] propertyTypeArgs = TypeArguments.get(genericPropertyType);
+            return ((ParameterizedConfigurationConverter) converter)
+                    .fromConfiguration(
+                            lookup,
+                            configuration,
+                            rawPropertyType,
+                            propertyTypeArgs,
+                            beanType,
+                            loader,
+                            evaluator,
+                            listener);
+        }
+        return converter.fromConfiguration(
+                lookup, configuration, rawPropertyType, beanType, loader, evaluator, listener);
+    }
+
+    static PropertyBinding getBinding(Class<?> beanType, String propertyName) {
+        return BINDINGS.get(beanType).computeIfAbsent(propertyName, p -> new PropertyBinding(beanType, p));
+    }
+
+    /**
+     * The setter and field that a property of a bean class is bound to, either may be {@code null}.
+     */
+    static final class PropertyBinding {
+
+        final Method setter;
+
+        final TypeLiteral<?> setterType;
+
+        final Field field;
+
+        final TypeLiteral<?> fieldType;
+
+        private volatile boolean accessible;
+
+        PropertyBinding(Class<?> beanType, String propertyName) {
+            String title = Character.toTitleCase(propertyName.charAt(0)) + propertyName.substring(1);
+            Method method = findMethod(beanType, "set" + title);
+            if (method == null) {
+                method = findMethod(beanType, "add" + title);
+            }
+            this.setter = method;
+            this.setterType = method != null ? TypeLiteral.get(method.getGenericParameterTypes()[0]) : null;
+            this.field = findField(beanType, propertyName);
+            this.fieldType = field != null ? TypeLiteral.get(field.getGenericType()) : null;
+        }
+
+        void setField(Object bean, Object value) throws IllegalAccessException {
+            if (!accessible) {
+                field.setAccessible(true);
+                accessible = true;
+            }
+            field.set(bean, value);
+        }
+
+        private static Method findMethod(Class<?> beanType, String methodName) {
+            for (Method method : beanType.getMethods()) {
+                if (methodName.equals(method.getName())
+                        && !Modifier.isStatic(method.getModifiers())
+                        && method.getParameterCount() == 1) {
+                    return method;
+                }
+            }
+            return null;
+        }
+
+        private static Field findField(Class<?> beanType, String fieldName) {
+            for (Class<?> type = beanType; type != null && type != Object.class; type = type.getSuperclass()) {
+                for (Field field : type.getDeclaredFields()) {
+                    if (fieldName.equals(field.getName()) && !Modifier.isStatic(field.getModifiers())) {
+                        return field;
+                    }
+                }
+            }
+            return null;
+        }
+    }
+}
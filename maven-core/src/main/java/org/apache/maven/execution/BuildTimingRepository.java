@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.execution;
+
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Gives access to the build durations recorded for the projects of a reactor during previous builds.
+ *
+ * @since 4.0.0
+ */
+public interface BuildTimingRepository {
+    /**
+     * Notifies the repository that the given project is about to be built for the given tasks. The durations recorded
+     * for the project and its mojo executions until the project is built again are attributed to these tasks.
+     *
+     * @param session The session of the project build.
+     * @param project The project to be built.
+     * @param tasks The tasks the project is built for, separated by commas, e.g. {@code clean,install}.
+     */
+    void projectTaskSegmentStarted(MavenSession session, MavenProject project, String tasks);
+
+    /**
+     * Gets the duration the given project took to build during the previous build of the reactor.
+     *
+     * @param session The current session.
+     * @param project The project to look up.
+     * @param tasks The tasks the project is built for, separated by commas, e.g. {@code clean,install}.
+     * @return The duration in milliseconds, or {@code -1} if no duration was recorded.
+     */
+    long getProjectDuration(MavenSession session, MavenProject project, String tasks);
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.execution;
+
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.apache.maven.eventspy.AbstractEventSpy;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This implementation of {@link BuildTimingRepository} records the duration of each project and mojo execution of
+ * a build and persists them in a properties file, so they are available to the next build of the same reactor. The
+ * file is stored in the build output directory under the Maven execution root. Recording is enabled by setting the
+ * {@code maven.build.timings} property to {@code true}.
+ * <p>
+ * Durations are keyed by project, the tasks of the task segment and mojo execution, e.g. {@code g:a/clean,install}
+ * for the whole project in a task segment running {@code clean install} and
+ * {@code g:a/clean,install/maven-compiler-plugin:compile@default-compile} for a single mojo execution. Entries of
+ * projects of the reactor not built by the current session are kept as they are, while those of removed projects and
+ * of the tasks a rebuilt project was previously built for are dropped.
+ * </p>
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+public class DefaultBuildTimingRepository extends AbstractEventSpy implements BuildTimingRepository {
+    private static final String BUILD_TIMINGS_FILENAME = "build-timings.properties";
+    private static final String MAVEN_BUILD_TIMINGS_KEY = "maven.build.timings";
+    private static final String KEY_DELIMITER = "/";
+    private static final Logger LOGGER = LoggerFactory.getLogger(DefaultBuildTimingRepository.class);
+
+    @Override
+    public void onEvent(Object event) {
+        if (!(event instanceof ExecutionEvent)) {
+            return;
+        }
+        ExecutionEvent executionEvent = (ExecutionEvent) event;
+        MavenSession session = executionEvent.getSession();
+        if (executionEvent.getType() == ExecutionEvent.Type.SessionStarted) {
+            startRecording(session);
+            return;
+        }
+        BuildTimings timings = getBuildTimings(session);
+        if (timings == null) {
+            return;
+        }
+        switch (executionEvent.getType()) {
+            case ProjectStarted:
+                timings.projectStarted(executionEvent.getProject());
+                break;
+            case ProjectSucceeded:
+            case ProjectFailed:
+                timings.projectEnded(executionEvent.getProject());
+                break;
+            case MojoStarted:
+                timings.mojoStarted(executionEvent.getProject(), executionEvent.getMojoExecution());
+                break;
+            case MojoSucceeded:
+            case MojoFailed:
+                timings.mojoEnded(executionEvent.getProject(), executionEvent.getMojoExecution());
+                break;
+            case SessionEnded:
+                persistBuildTimings(timings);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void projectTaskSegmentStarted(MavenSession session, MavenProject project, String tasks) {
+        BuildTimings timings = getBuildTimings(session);
+        if (timings != null) {
+            timings.taskSegments.put(project, tasks);
+        }
+    }
+
+    @Override
+    public long getProjectDuration(MavenSession session, MavenProject project, String tasks) {
+        BuildTimings timings = getBuildTimings(session);
+        if (timings == null) {
+            return -1;
+        }
+        String value = timings.previous.getProperty(projectKey(project, tasks));
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void startRecording(MavenSession session) {
+        RepositorySystemSession repositorySession = session.getRepositorySession();
+        if (repositorySession == null
+                || !ConfigUtils.getBoolean(repositorySession, false, MAVEN_BUILD_TIMINGS_KEY)
+                || session.getAllProjects() == null) {
+            return;
+        }
+        session.getAllProjects().stream()
+                .filter(MavenProject::isExecutionRoot)
+                .findFirst()
+                .map(rootProject -> Paths.get(rootProject.getBuild().getDirectory(), BUILD_TIMINGS_FILENAME))
+                .ifPresent(path -> {
+                    Set<String> reactorProjects = session.getAllProjects().stream()
+                            .map(DefaultBuildTimingRepository::projectId)
+                            .collect(Collectors.toSet());
+                    repositorySession
+                            .getData()
+                            .set(
+                                    BuildTimings.class,
+                                    new BuildTimings(path, loadBuildTimingsFile(path), reactorProjects));
+                });
+    }
+
+    private BuildTimings getBuildTimings(MavenSession session) {
+        RepositorySystemSession repositorySession = session != null ? session.getRepositorySession() : null;
+        return repositorySession != null
+                ? (BuildTimings) repositorySession.getData().get(BuildTimings.class)
+                : null;
+    }
+
+    private Properties loadBuildTimingsFile(Path path) {
+        Properties properties = new Properties();
+        if (!Files.exists(path)) {
+            return properties;
+        }
+
+        try (Reader reader = Files.newBufferedReader(path)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            LOGGER.warn("Unable to read {}, build timings of previous builds will not be used.", path);
+        }
+
+        return properties;
+    }
+
+    private void persistBuildTimings(BuildTimings timings) {
+        if (timings.recorded.isEmpty()) {
+            return;
+        }
+        // previous durations are kept only for the projects of the reactor that were not built again, so the file never
+        // holds more than the tasks each project was last built for
+        Set<String> builtProjects = timings.taskSegments.keySet().stream()
+                .map(DefaultBuildTimingRepository::projectId)
+                .collect(Collectors.toSet());
+        Properties properties = new Properties();
+        for (String key : timings.previous.stringPropertyNames()) {
+            int index = key.indexOf(KEY_DELIMITER);
+            String projectId = index > 0 ? key.substring(0, index) : key;
+            if (timings.reactorProjects.contains(projectId) && !builtProjects.contains(projectId)) {
+                properties.setProperty(key, timings.previous.getProperty(key));
+            }
+        }
+        timings.recorded.forEach((key, duration) -> properties.setProperty(key, Long.toString(duration)));
+
+        try {
+            Files.createDirectories(timings.path.getParent());
+            try (Writer writer = Files.newBufferedWriter(timings.path)) {
+                properties.store(writer, null);
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not create {} file.", BUILD_TIMINGS_FILENAME, e);
+        }
+    }
+
+    static String projectId(MavenProject project) {
+        return project.getGroupId() + ':' + project.getArtifactId();
+    }
+
+    static String projectKey(MavenProject project, String taskSegment) {
+        return projectId(project) + KEY_DELIMITER + taskSegment;
+    }
+
+    static String mojoKey(MavenProject project, String taskSegment, MojoExecution mojoExecution) {
+        return projectKey(project, taskSegment)
+                + KEY_DELIMITER
+                + mojoExecution.getArtifactId()
+                + ':'
+                + mojoExecution.getGoal()
+                + '@'
+                + mojoExecution.getExecutionId();
+    }
+
+    /**
+     * The timings of a single session. The task segments are built one after the other, so the durations of a project
+     * belong to the task segment it was last started in.
+     */
+    private static final class BuildTimings {
+        private final Path path;
+
+        private final Properties previous;
+
+        private final Set<String> reactorProjects;
+
+        private final Map<String, Long> recorded = new ConcurrentHashMap<>();
+
+        private final Map<String, Long> started = new ConcurrentHashMap<>();
+
+        private final Map<MavenProject, String> taskSegments = new ConcurrentHashMap<>();
+
+        BuildTimings(Path path, Properties previous, Set<String> reactorProjects) {
+            this.path = path;
+            this.previous = previous;
+            this.reactorProjects = reactorProjects;
+        }
+
+        void projectStarted(MavenProject project) {
+            String taskSegment = taskSegments.get(project);
+            if (taskSegment != null) {
+                started.put(projectKey(project, taskSegment), System.nanoTime());
+            }
+        }
+
+        void projectEnded(MavenProject project) {
+            String taskSegment = taskSegments.get(project);
+            if (taskSegment != null) {
+                ended(projectKey(project, taskSegment));
+            }
+        }
+
+        void mojoStarted(MavenProject project, MojoExecution mojoExecution) {
+            String taskSegment = taskSegments.get(project);
+            if (taskSegment != null && mojoExecution != null) {
+                started.put(mojoKey(project, taskSegment, mojoExecution), System.nanoTime());
+            }
+        }
+
+        void mojoEnded(MavenProject project, MojoExecution mojoExecution) {
+            String taskSegment = taskSegments.get(project);
+            if (taskSegment != null && mojoExecution != null) {
+                ended(mojoKey(project, taskSegment, mojoExecution));
+            }
+        }
+
+        private void ended(String key) {
+            Long start = started.remove(key);
+            if (start != null) {
+                recorded.put(key, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            }
+        }
+    }
+}
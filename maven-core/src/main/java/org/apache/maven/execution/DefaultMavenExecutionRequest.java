@@ -947,6 +947,7 @@ public ProjectBuildingRequest getProjectBuildingRequest() {
             projectBuildingRequest.setProfiles(getProfiles());
             projectBuildingRequest.setProcessPlugins(true);
             projectBuildingRequest.setBuildStartTime(getStartTime());
+            projectBuildingRequest.setDegreeOfConcurrency(getDegreeOfConcurrency());
         }
 
         return projectBuildingRequest;
@@ -994,6 +995,9 @@ public MavenExecutionRequest setExecutionListener(ExecutionListener executionLis
     @Override
     public void setDegreeOfConcurrency(final int degreeOfConcurrency) {
         this.degreeOfConcurrency = degreeOfConcurrency;
+        if (projectBuildingRequest != null) {
+            projectBuildingRequest.setDegreeOfConcurrency(degreeOfConcurrency);
+        }
     }
 
     @Override
@@ -54,7 +54,7 @@
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import static java.util.Comparator.comparing;
+import static java.util.Comparator.comparingInt;
 
 /**
  * Builds the {@link ProjectDependencyGraph inter-dependencies graph} between projects in the reactor.
@@ -155,8 +155,7 @@ private List<MavenProject> trimProjectsToRequest(
         if (request.getPom() != null) {
             result = getProjectsInRequestScope(request, activeProjects);
 
-            List<MavenProject> sortedProjects = graph.getSortedProjects();
-            result.sort(comparing(sortedProjects::indexOf));
+            sortInReactorOrder(result, graph);
 
             result = includeAlsoMakeTransitively(result, request, graph);
         }
@@ -189,8 +188,7 @@ private List<MavenProject> trimSelectedProjects(
                 result = includeAlsoMakeTransitively(result, request, graph);
 
                 // Order the new list in the original order
-                List<MavenProject> sortedProjects = graph.getSortedProjects();
-                result.sort(comparing(sortedProjects::indexOf));
+                sortInReactorOrder(result, graph);
             }
         }
 
@@ -285,13 +283,21 @@ private List<MavenProject> includeAlsoMakeTransitively(
             result = new ArrayList<>(projectsSet);
 
             // Order the new list in the original order
-            List<MavenProject> sortedProjects = graph.getSortedProjects();
-            result.sort(comparing(sortedProjects::indexOf));
+            sortInReactorOrder(result, graph);
         }
 
         return result;
     }
 
+    private static void sortInReactorOrder(List<MavenProject> projects, ProjectDependencyGraph graph) {
+        List<MavenProject> sortedProjects = graph.getSortedProjects();
+        Map<MavenProject, Integer> order = new HashMap<>(sortedProjects.size() * 2);
+        for (int index = 0; index < sortedProjects.size(); index++) {
+            order.putIfAbsent(sortedProjects.get(index), index);
+        }
+        projects.sort(comparingInt(project -> order.getOrDefault(project, -1)));
+    }
+
     private void enrichRequestFromResumptionData(List<MavenProject> projects, MavenExecutionRequest request) {
         if (request.isResume()) {
             projects.stream()
@@ -19,16 +19,14 @@
 package org.apache.maven.graph;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import org.apache.maven.execution.ProjectDependencyGraph;
 import org.apache.maven.project.DuplicateProjectException;
@@ -38,7 +36,11 @@
 
 /**
  * Describes the interdependencies between projects in the reactor.
- *
+ * <p>
+ * The projects are indexed by their position in the sorted reactor when the graph is created. Direct upstream and
+ * downstream projects are computed once, transitive ones on first use, and all of them are returned as immutable
+ * lists in reactor order.
+ * </p>
  */
 public class DefaultProjectDependencyGraph implements ProjectDependencyGraph {
 
@@ -48,7 +50,19 @@ public class DefaultProjectDependencyGraph implements ProjectDependencyGraph {
 
     private final Map<MavenProject, Integer> order;
 
-    private final Map<String, MavenProject> projects;
+    private final MavenProject[] sorted;
+
+    private final List<MavenProject>[] directUpstream;
+
+    private final List<MavenProject>[] directDownstream;
+
+    private final AtomicReferenceArray<List<MavenProject>> transitiveUpstream;
+
+    private final AtomicReferenceArray<List<MavenProject>> transitiveDownstream;
+
+    private volatile BitSet[] upstreamClosure;
+
+    private volatile BitSet[] downstreamClosure;
 
     /**
      * Creates a new project dependency graph based on the specified projects.
@@ -91,15 +105,52 @@ public DefaultProjectDependencyGraph(Collection<MavenProject> allProjects, Colle
             throws CycleDetectedException, DuplicateProjectException {
         this.allProjects = Collections.unmodifiableList(new ArrayList<>(allProjects));
         this.sorter = new ProjectSorter(projects);
-        this.order = new HashMap<>();
-        this.projects = new HashMap<>();
-        List<MavenProject> sorted = this.sorter.getSortedProjects();
-        for (int index = 0; index < sorted.size(); index++) {
-            MavenProject project = sorted.get(index);
-            String id = ProjectSorter.getId(project);
-            this.projects.put(id, project);
+        List<MavenProject> sortedProjects = this.sorter.getSortedProjects();
+        int size = sortedProjects.size();
+        this.order = new HashMap<>(size * 2);
+        this.sorted = sortedProjects.toArray(new MavenProject[0]);
+        Map<String, Integer> ordinals = new HashMap<>(size * 2);
+        for (int index = 0; index < size; index++) {
+            MavenProject project = sorted[index];
+            ordinals.put(ProjectSorter.getId(project), index);
             this.order.put(project, index);
         }
+        this.directUpstream = newListArray(size);
+        this.directDownstream = newListArray(size);
+        for (int index = 0; index < size; index++) {
+            String id = ProjectSorter.getId(sorted[index]);
+            directUpstream[index] = toSortedProjects(toBitSet(sorter.getDependencies(id), ordinals));
+            directDownstream[index] = toSortedProjects(toBitSet(sorter.getDependents(id), ordinals));
+        }
+        this.transitiveUpstream = new AtomicReferenceArray<>(size);
+        this.transitiveDownstream = new AtomicReferenceArray<>(size);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<MavenProject>[] newListArray(int size) {
+        return new List[size];
+    }
+
+    private static BitSet toBitSet(List<String> ids, Map<String, Integer> ordinals) {
+        BitSet result = new BitSet(ordinals.size());
+        for (String id : ids) {
+            Integer ordinal = ordinals.get(id);
+            if (ordinal != null) {
+                result.set(ordinal);
+            }
+        }
+        return result;
+    }
+
+    private List<MavenProject> toSortedProjects(BitSet ordinals) {
+        if (ordinals.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<MavenProject> result = new ArrayList<>(ordinals.cardinality());
+        for (int i = ordinals.nextSetBit(0); i >= 0; i = ordinals.nextSetBit(i + 1)) {
+            result.add(sorted[i]);
+        }
+        return Collections.unmodifiableList(result);
     }
 
     /**
@@ -116,44 +167,81 @@ public List<MavenProject> getSortedProjects() {
     public List<MavenProject> getDownstreamProjects(MavenProject project, boolean transitive) {
         Objects.requireNonNull(project, "project cannot be null");
 
-        Set<String> projectIds = new HashSet<>();
-
-        getDownstreamProjects(ProjectSorter.getId(project), projectIds, transitive);
-
-        return getSortedProjects(projectIds);
-    }
-
-    private void getDownstreamProjects(String projectId, Set<String> projectIds, boolean transitive) {
-        for (String id : sorter.getDependents(projectId)) {
-            if (projectIds.add(id) && transitive) {
-                getDownstreamProjects(id, projectIds, transitive);
-            }
+        Integer index = order.get(project);
+        if (index == null) {
+            return Collections.emptyList();
         }
+        if (!transitive) {
+            return directDownstream[index];
+        }
+        List<MavenProject> result = transitiveDownstream.get(index);
+        if (result == null) {
+            result = toSortedProjects(getDownstreamClosure()[index]);
+            transitiveDownstream.compareAndSet(index, null, result);
+        }
+        return result;
     }
 
     public List<MavenProject> getUpstreamProjects(MavenProject project, boolean transitive) {
         Objects.requireNonNull(project, "project cannot be null");
 
-        Set<String> projectIds = new HashSet<>();
-
-        getUpstreamProjects(ProjectSorter.getId(project), projectIds, transitive);
-
-        return getSortedProjects(projectIds);
+        Integer index = order.get(project);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        if (!transitive) {
+            return directUpstream[index];
+        }
+        List<MavenProject> result = transitiveUpstream.get(index);
+        if (result == null) {
+            result = toSortedProjects(getUpstreamClosure()[index]);
+            transitiveUpstream.compareAndSet(index, null, result);
+        }
+        return result;
     }
 
-    private void getUpstreamProjects(String projectId, Collection<String> projectIds, boolean transitive) {
-        for (String id : sorter.getDependencies(projectId)) {
-            if (projectIds.add(id) && transitive) {
-                getUpstreamProjects(id, projectIds, transitive);
+    /**
+     * Upstream projects always come first in the sorted reactor, so the closure of a project is the union of the
+     * closures of its direct upstream projects, computed in reactor order.
+     */
+    private BitSet[] getUpstreamClosure() {
+        BitSet[] closure = upstreamClosure;
+        if (closure == null) {
+            closure = new BitSet[sorted.length];
+            for (int index = 0; index < sorted.length; index++) {
+                BitSet projects = new BitSet(sorted.length);
+                for (MavenProject upstream : directUpstream[index]) {
+                    int upstreamIndex = order.get(upstream);
+                    projects.set(upstreamIndex);
+                    projects.or(closure[upstreamIndex]);
+                }
+                closure[index] = projects;
             }
+            upstreamClosure = closure;
         }
+        return closure;
     }
 
-    private List<MavenProject> getSortedProjects(Set<String> projectIds) {
-        return projectIds.stream()
-                .map(projects::get)
-                .sorted(Comparator.comparingInt(order::get))
-                .collect(Collectors.toList());
+    /**
+     * Downstream projects always come last in the sorted reactor, so the closure of a project is the union of the
+     * closures of its direct downstream projects, computed in reverse reactor order.
+     */
+    private BitSet[] getDownstreamClosure() {
+        BitSet[] closure = downstreamClosure;
+        if (closure == null) {
+            closure = new BitSet[sorted.length];
+            for (int index = sorted.length - 1; index >= 0; index--) {
+                BitSet projects = new BitSet(sorted.length);
+                for (MavenProject downstream : directDownstream[index]) {
+                    int downstreamIndex = order.get(downstream);
+                    projects.set(downstreamIndex);
+                    projects.or(closure[downstreamIndex]);
+                }
+                closure[index] = projects;
+            }
+            downstreamClosure = closure;
+        }
+        return closure;
     }
 
     @Override
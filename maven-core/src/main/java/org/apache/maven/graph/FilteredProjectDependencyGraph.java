@@ -19,7 +19,9 @@
 package org.apache.maven.graph;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
@@ -30,15 +32,21 @@
 
 /**
  * Provides a sub view of another dependency graph.
- *
+ * <p>
+ * Like {@link DefaultProjectDependencyGraph}, the projects are indexed by their position in the sorted reactor of the
+ * underlying graph, and the projects of the view are kept as a set of positions. The sorted projects of the view are
+ * filtered once, and all lists are returned as immutable lists in reactor order.
+ * </p>
  */
 class FilteredProjectDependencyGraph implements ProjectDependencyGraph {
 
-    private ProjectDependencyGraph projectDependencyGraph;
+    private final ProjectDependencyGraph projectDependencyGraph;
+
+    private final Map<MavenProject, Integer> order;
 
-    private Map<MavenProject, ?> whiteList;
+    private final BitSet whiteList;
 
-    private List<MavenProject> sortedProjects;
+    private final List<MavenProject> sortedProjects;
 
     /**
      * Creates a new project dependency graph from the specified graph.
@@ -51,11 +59,21 @@ class FilteredProjectDependencyGraph implements ProjectDependencyGraph {
         this.projectDependencyGraph =
                 Objects.requireNonNull(projectDependencyGraph, "projectDependencyGraph cannot be null");
 
-        this.whiteList = new IdentityHashMap<>();
+        List<MavenProject> sorted = projectDependencyGraph.getSortedProjects();
+        this.order = new IdentityHashMap<>(sorted.size() * 2);
+        for (int index = 0; index < sorted.size(); index++) {
+            this.order.put(sorted.get(index), index);
+        }
 
+        this.whiteList = new BitSet(sorted.size());
         for (MavenProject project : whiteList) {
-            this.whiteList.put(project, null);
+            Integer index = order.get(project);
+            if (index != null) {
+                this.whiteList.set(index);
+            }
         }
+
+        this.sortedProjects = applyFilter(sorted);
     }
 
     /**
@@ -66,10 +84,6 @@ public List<MavenProject> getAllProjects() {
     }
 
     public List<MavenProject> getSortedProjects() {
-        if (sortedProjects == null) {
-            sortedProjects = applyFilter(projectDependencyGraph.getSortedProjects());
-        }
-
         return new ArrayList<>(sortedProjects);
     }
 
@@ -81,20 +95,21 @@ public List<MavenProject> getUpstreamProjects(MavenProject project, boolean tran
         return applyFilter(projectDependencyGraph.getUpstreamProjects(project, transitive));
     }
 
-    private List<MavenProject> applyFilter(Collection<? extends MavenProject> projects) {
+    private List<MavenProject> applyFilter(List<MavenProject> projects) {
         List<MavenProject> filtered = new ArrayList<>(projects.size());
 
         for (MavenProject project : projects) {
-            if (whiteList.containsKey(project)) {
+            Integer index = order.get(project);
+            if (index != null && whiteList.get(index)) {
                 filtered.add(project);
             }
         }
 
-        return filtered;
+        return filtered.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(filtered);
     }
 
     @Override
     public String toString() {
-        return getSortedProjects().toString();
+        return sortedProjects.toString();
     }
 }
@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Loads missing values into a concurrent cache so that each key is loaded by a single thread at a time.
+ * <p>
+ * Unlike {@link Map#computeIfAbsent(Object, java.util.function.Function)} on a {@link ConcurrentHashMap}, the load
+ * does not run while holding a lock of the map: threads asking for other keys are never blocked, and threads asking
+ * for the key being loaded wait for the outcome of that load. A failed load is not cached, its exception is thrown to
+ * all the threads waiting for it.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @since 4.0.0
+ */
+public class SingleFlightLoader<K, V> {
+
+    /**
+     * Loads a value. Loaders failing with a single checked exception leave {@code E2} to be inferred as
+     * {@link RuntimeException}.
+     *
+     * @param <V> the type of the value
+     * @param <E1> the type of an exception thrown when loading fails
+     * @param <E2> the type of another exception thrown when loading fails
+     */
+    @FunctionalInterface
+    public interface Loader<V, E1 extends Exception, E2 extends Exception> {
+        V load() throws E1, E2;
+    }
+
+    private final Function<K, V> lookup;
+
+    private final BiFunction<K, V, V> store;
+
+    private final Map<K, CompletableFuture<V>> loading = new ConcurrentHashMap<>();
+
+    /**
+     * @param cache the cache receiving the loaded values, must be safe for concurrent use
+     */
+    public SingleFlightLoader(Map<K, V> cache) {
+        this(cache::get, (key, value) -> {
+            cache.put(key, value);
+            return value;
+        });
+    }
+
+    /**
+     * @param lookup the lookup of cached values, returning {@code null} if the key is not cached
+     * @param store the store of loaded values into the cache, returning the value to hand out
+     */
+    public SingleFlightLoader(Function<K, V> lookup, BiFunction<K, V, V> store) {
+        this.lookup = Objects.requireNonNull(lookup, "lookup cannot be null");
+        this.store = Objects.requireNonNull(store, "store cannot be null");
+    }
+
+    /**
+     * Gets the cached value of the given key, loading and caching it first if needed.
+     *
+     * @param key the key, must not be {@code null}
+     * @param loader the loader of the value, must not return {@code null}
+     * @return the cached value
+     * @throws E1 if the value could not be loaded, either by this thread or by the thread it waited for
+     * @throws E2 if the value could not be loaded, either by this thread or by the thread it waited for
+     */
+    public <E1 extends Exception, E2 extends Exception> V get(K key, Loader<V, E1, E2> loader) throws E1, E2 {
+        V value = lookup.apply(key);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loading.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            // another thread may have completed its load after our first lookup
+            value = lookup.apply(key);
+            if (value == null) {
+                value = store.apply(key, Objects.requireNonNull(loader.load(), "loaded value cannot be null"));
+            }
+            future.complete(value);
+            return value;
+        } catch (Throwable t) {
+            future.completeExceptionally(t);
+            throw t;
+        } finally {
+            loading.remove(key, future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E1 extends Exception, E2 extends Exception> V await(CompletableFuture<V> future) throws E1, E2 {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            // loaders of the same cache fail with the same kinds of exception
+            throw (E1) cause;
+        }
+    }
+}
@@ -33,6 +33,22 @@ class PropertiesAsMap extends AbstractMap<String, String> {
         this.properties = properties;
     }
 
+    @Override
+    public String get(Object key) {
+        if (key instanceof String) {
+            Object value = properties.get(key);
+            if (value instanceof String) {
+                return (String) value;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
     @Override
     public Set<Entry<String, String>> entrySet() {
         return new AbstractSet<Entry<String, String>>() {
@@ -61,6 +61,18 @@ public final class ConsumerPomArtifactTransformer {
 
     private static final String CONSUMER_POM_CLASSIFIER = "consumer";
 
+    /**
+     * The input factory shared by all transformations: it is thread-safe once configured, and reusing it also reuses
+     * its symbol table.
+     */
+    private static final XMLInputFactory2 FACTORY;
+
+    static {
+        XMLInputFactory2 factory = new com.ctc.wstx.stax.WstxInputFactory();
+        factory.configureForRoundTripping();
+        FACTORY = factory;
+    }
+
     private final Set<Path> toDelete = new CopyOnWriteArraySet<>();
 
     public void injectTransformedArtifacts(MavenProject project, RepositorySystemSession session) throws IOException {
@@ -184,9 +196,7 @@ private static BiConsumer<Path, Path> transformer(RepositorySystemSession sessio
      */
     static InputStream transform(Path pomFile, TransformerContext context) throws IOException, XMLStreamException {
         try (InputStream input = Files.newInputStream(pomFile)) {
-            XMLInputFactory2 factory = new com.ctc.wstx.stax.WstxInputFactory();
-            factory.configureForRoundTripping();
-            XMLStreamReader reader = factory.createXMLStreamReader(input);
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(input);
             reader = new RawToConsumerPomXMLFilterFactory(new DefaultBuildPomXMLFilterFactory(context, true))
                     .get(reader, pomFile);
             return XmlUtils.writeDocument(reader);
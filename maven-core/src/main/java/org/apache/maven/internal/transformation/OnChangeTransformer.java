@@ -22,6 +22,8 @@
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -32,7 +34,8 @@
 
 /**
  * Keeps transformed file up-to-date relative to its source file. It manages state (i.e. hashing the content) using
- * passed in stateFunction, and transforms when needed using passed in transformer bi-consumer.
+ * passed in stateFunction, and transforms when needed using passed in transformer bi-consumer. The state function is
+ * only invoked when the path, size, modification time or file key of the source changed since the last invocation.
  * <p>
  * Covered cases:
  * <ul>
@@ -55,6 +58,14 @@ final class OnChangeTransformer implements Supplier<Path> {
 
     private final AtomicReference<String> sourceState;
 
+    private Path sourcePath;
+
+    private long sourceSize;
+
+    private FileTime sourceLastModified;
+
+    private Object sourceFileKey;
+
     OnChangeTransformer(
             Supplier<Path> source,
             Path target,
@@ -82,17 +93,27 @@ private String mayUpdate() {
             Path src = source.get();
             if (src == null) {
                 Files.deleteIfExists(target);
+                sourcePath = null;
                 result = null;
             } else if (!Files.exists(src)) {
                 Files.deleteIfExists(target);
+                sourcePath = null;
                 result = "";
             } else {
-                String current = stateFunction.apply(src);
+                BasicFileAttributes attributes = Files.readAttributes(src, BasicFileAttributes.class);
                 String existing = sourceState.get();
+                if (existing != null && isUnchanged(src, attributes)) {
+                    return existing;
+                }
+                String current = stateFunction.apply(src);
                 if (!Objects.equals(current, existing)) {
                     transformerConsumer.accept(src, target);
-                    Files.setLastModifiedTime(target, Files.getLastModifiedTime(src));
+                    Files.setLastModifiedTime(target, attributes.lastModifiedTime());
                 }
+                sourcePath = src;
+                sourceSize = attributes.size();
+                sourceLastModified = attributes.lastModifiedTime();
+                sourceFileKey = attributes.fileKey();
                 result = current;
             }
         } catch (IOException e) {
@@ -101,4 +122,11 @@ private String mayUpdate() {
         sourceState.set(result);
         return result;
     }
+
+    private boolean isUnchanged(Path src, BasicFileAttributes attributes) {
+        return src.equals(sourcePath)
+                && attributes.size() == sourceSize
+                && attributes.lastModifiedTime().equals(sourceLastModified)
+                && Objects.equals(attributes.fileKey(), sourceFileKey);
+    }
 }
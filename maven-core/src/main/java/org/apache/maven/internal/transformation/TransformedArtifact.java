@@ -82,6 +82,8 @@ public File getFile() {
 
     private static final int BUFFER_SIZE = 8192;
 
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
     private static String sha1(Path path) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-1");
@@ -92,11 +94,13 @@ private static String sha1(Path path) {
                     md.update(buffer, 0, read);
                 }
             }
-            StringBuilder result = new StringBuilder();
-            for (byte b : md.digest()) {
-                result.append(String.format("%02x", b));
+            byte[] digest = md.digest();
+            char[] result = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                result[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                result[i * 2 + 1] = HEX[digest[i] & 0xF];
             }
-            return result.toString();
+            return new String(result);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -0,0 +1,306 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.feature.Features;
+import org.apache.maven.lifecycle.LifecycleExecutionException;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.artifact.ProjectArtifactsCache;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resolves the dependencies of projects in the background while the builder is busy with other projects. Enabled by
+ * {@code maven.experimental.dependencyPreResolution} for builds running with more than one thread, it uses half as
+ * many threads as the build, so it does not take more than a share of the network and CPU from the builder.
+ * <p>
+ * All projects of the first task segment are pre-resolved: the execution plan is calculated and the scopes it requires
+ * are resolved; projects whose plan requires no resolution, e.g. {@code clean}, are skipped. Artifacts of the reactor
+ * cannot be resolved before their projects are built, so they are left out and only the external part of the
+ * dependency graph is resolved, which downloads it into the local repository. The result is complete only for projects
+ * whose upstream reactor projects, e.g. their parents, are all POM projects. Projects are submitted in reverse reactor
+ * order, so the pre-resolution works ahead of the builder instead of competing with it for the projects it starts
+ * first.
+ * <p>
+ * Pre-resolution tasks do not set the dependencies of their project. Before a project is built, the builder calls
+ * {@link #awaitPreResolution(MavenSession, MavenProject)}, which cancels the task if it has not started yet or waits
+ * for it, and stores a complete result in the {@link ProjectArtifactsCache} on the builder thread, where the
+ * resolution of the build finds it. Failures are left to the build, which calculates the plan and resolves the
+ * dependencies again and reports them.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+@Named
+@Singleton
+public class DependencyPreResolver {
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    private final LifecycleExecutionPlanCalculator lifecycleExecutionPlanCalculator;
+
+    private final MojoExecutor mojoExecutor;
+
+    private final LifecycleDependencyResolver lifecycleDependencyResolver;
+
+    private final ProjectArtifactFactory artifactFactory;
+
+    private final ProjectArtifactsCache projectArtifactsCache;
+
+    @Inject
+    public DependencyPreResolver(
+            LifecycleExecutionPlanCalculator lifecycleExecutionPlanCalculator,
+            MojoExecutor mojoExecutor,
+            LifecycleDependencyResolver lifecycleDependencyResolver,
+            ProjectArtifactFactory artifactFactory,
+            ProjectArtifactsCache projectArtifactsCache) {
+        this.lifecycleExecutionPlanCalculator = lifecycleExecutionPlanCalculator;
+        this.mojoExecutor = mojoExecutor;
+        this.lifecycleDependencyResolver = lifecycleDependencyResolver;
+        this.artifactFactory = artifactFactory;
+        this.projectArtifactsCache = projectArtifactsCache;
+    }
+
+    /**
+     * Starts the pre-resolution of the given project builds, if enabled, without waiting for it.
+     *
+     * @param session the session of the build
+     * @param projectBuilds the project builds of the first task segment
+     */
+    public void start(MavenSession session, ProjectBuildList projectBuilds) {
+        int degreeOfConcurrency = session.getRequest().getDegreeOfConcurrency();
+        if (degreeOfConcurrency <= 1
+                || !Features.dependencyPreResolution(session.getUserProperties())
+                        .isActive()) {
+            return;
+        }
+
+        if (projectBuilds.isEmpty()) {
+            return;
+        }
+        List<ProjectSegment> candidates = new ArrayList<>();
+        projectBuilds.forEach(candidates::add);
+        Collections.reverse(candidates);
+
+        Set<Artifact> reactorArtifacts = new HashSet<>();
+        for (MavenProject project : session.getProjects()) {
+            reactorArtifacts.add(project.getArtifact());
+        }
+
+        PreResolutions preResolutions = new PreResolutions(
+                Executors.newFixedThreadPool(Math.max(1, degreeOfConcurrency / 2), new BuildThreadFactory()));
+        session.getRepositorySession().getData().set(PreResolutions.class, preResolutions);
+        for (ProjectSegment candidate : candidates) {
+            MavenProject project = candidate.getProject();
+            boolean complete = session.getProjectDependencyGraph().getUpstreamProjects(project, true).stream()
+                    .allMatch(upstream -> "pom".equals(upstream.getPackaging()));
+            PreResolutionTask task = new PreResolutionTask(() -> preResolve(
+                    session,
+                    project,
+                    candidate.getTaskSegment(),
+                    complete ? Collections.emptySet() : reactorArtifacts));
+            preResolutions.tasks.put(project, task);
+            preResolutions.executor.execute(task);
+        }
+    }
+
+    /**
+     * Hands the pre-resolved dependencies of the given project over to the build. Must be called on the builder
+     * thread before the project is built.
+     *
+     * @param session the session of the build
+     * @param project the project about to be built
+     */
+    public void awaitPreResolution(MavenSession session, MavenProject project) {
+        PreResolutions preResolutions =
+                (PreResolutions) session.getRepositorySession().getData().get(PreResolutions.class);
+        if (preResolutions == null) {
+            return;
+        }
+        PreResolutionTask task = preResolutions.tasks.remove(project);
+        if (task == null || task.cancelIfNotStarted()) {
+            return;
+        }
+
+        PreResolution preResolution;
+        try {
+            preResolution = task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException | CancellationException e) {
+            return;
+        }
+        if (preResolution == null) {
+            return;
+        }
+
+        if (project.getDependencyArtifacts() == null) {
+            project.setDependencyArtifacts(preResolution.dependencyArtifacts);
+        }
+        ProjectArtifactsCache.Key cacheKey = projectArtifactsCache.createKey(
+                project,
+                preResolution.scopesToCollect,
+                preResolution.scopesToResolve,
+                false,
+                session.getRepositorySession());
+        try {
+            if (projectArtifactsCache.get(cacheKey) == null) {
+                projectArtifactsCache.put(cacheKey, preResolution.artifacts);
+            }
+        } catch (LifecycleExecutionException e) {
+            // a failure is already known, the build reports it
+        }
+    }
+
+    /**
+     * Stops the pre-resolution of projects that have not been built.
+     *
+     * @param session the session of the build
+     */
+    public void stop(MavenSession session) {
+        PreResolutions preResolutions =
+                (PreResolutions) session.getRepositorySession().getData().get(PreResolutions.class);
+        if (preResolutions != null) {
+            session.getRepositorySession().getData().set(PreResolutions.class, null);
+            preResolutions.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Resolves the dependencies of the given project, leaving out the given reactor artifacts. The result is only
+     * returned if it is complete, i.e. no reactor artifacts were left out.
+     */
+    private PreResolution preResolve(
+            MavenSession session, MavenProject project, TaskSegment taskSegment, Set<Artifact> reactorArtifacts) {
+        MavenSession projectSession = session.clone();
+        projectSession.setCurrentProject(project);
+
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        try {
+            BuilderCommon.attachToThread(project);
+
+            List<MojoExecution> mojoExecutions = lifecycleExecutionPlanCalculator
+                    .calculateExecutionPlan(projectSession, project, taskSegment.getTasks())
+                    .getMojoExecutions();
+            if (mojoExecutions.isEmpty()
+                    || mojoExecutions.get(0).getMojoDescriptor().isAggregator()) {
+                return null;
+            }
+
+            DependencyContext dependencyContext = mojoExecutor.newDependencyContext(projectSession, mojoExecutions);
+            Collection<String> scopesToCollect = dependencyContext.getScopesToCollectForCurrentProject();
+            Collection<String> scopesToResolve = dependencyContext.getScopesToResolveForCurrentProject();
+            if (scopesToCollect.isEmpty() && scopesToResolve.isEmpty()) {
+                return null;
+            }
+
+            Set<Artifact> dependencyArtifacts = artifactFactory.createArtifacts(project);
+            Set<Artifact> artifacts = lifecycleDependencyResolver.getDependencies(
+                    project, scopesToCollect, scopesToResolve, projectSession, false, reactorArtifacts);
+            if (!reactorArtifacts.isEmpty()) {
+                return null;
+            }
+            return new PreResolution(dependencyArtifacts, scopesToCollect, scopesToResolve, artifacts);
+        } catch (Exception e) {
+            logger.debug("Could not pre-resolve the dependencies of " + project.getId() + ", the build will retry", e);
+            return null;
+        } finally {
+            Thread.currentThread().setContextClassLoader(tccl);
+        }
+    }
+
+    private static class PreResolutions {
+        private final ExecutorService executor;
+
+        private final Map<MavenProject, PreResolutionTask> tasks = new ConcurrentHashMap<>();
+
+        PreResolutions(ExecutorService executor) {
+            this.executor = executor;
+        }
+    }
+
+    /**
+     * A task that can be cancelled only as long as it has not started, unlike a plain {@link FutureTask}, which also
+     * reports a running task as cancelled.
+     */
+    private static class PreResolutionTask extends FutureTask<PreResolution> {
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        PreResolutionTask(Callable<PreResolution> callable) {
+            super(callable);
+        }
+
+        @Override
+        public void run() {
+            if (started.compareAndSet(false, true)) {
+                super.run();
+            }
+        }
+
+        boolean cancelIfNotStarted() {
+            return started.compareAndSet(false, true) && cancel(false);
+        }
+    }
+
+    private static class PreResolution {
+        private final Set<Artifact> dependencyArtifacts;
+
+        private final Collection<String> scopesToCollect;
+
+        private final Collection<String> scopesToResolve;
+
+        private final Set<Artifact> artifacts;
+
+        PreResolution(
+                Set<Artifact> dependencyArtifacts,
+                Collection<String> scopesToCollect,
+                Collection<String> scopesToResolve,
+                Set<Artifact> artifacts) {
+            this.dependencyArtifacts = dependencyArtifacts;
+            this.scopesToCollect = scopesToCollect;
+            this.scopesToResolve = scopesToResolve;
+            this.artifacts = artifacts;
+        }
+    }
+}
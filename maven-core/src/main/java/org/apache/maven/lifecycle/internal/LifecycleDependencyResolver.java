@@ -200,7 +200,7 @@ public Set<Artifact> resolveProjectArtifacts(
         return resolvedArtifacts;
     }
 
-    private Set<Artifact> getDependencies(
+    Set<Artifact> getDependencies(
             MavenProject project,
             Collection<String> scopesToCollect,
             Collection<String> scopesToResolve,
@@ -26,6 +26,7 @@
 import java.util.List;
 
 import org.apache.maven.execution.BuildSuccess;
+import org.apache.maven.execution.BuildTimingRepository;
 import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.execution.ProjectExecutionEvent;
@@ -55,6 +56,8 @@ public class LifecycleModuleBuilder {
     private final ProjectExecutionListener projectExecutionListener;
     private final ConsumerPomArtifactTransformer consumerPomArtifactTransformer;
     private final SessionScope sessionScope;
+    private final BuildTimingRepository buildTimingRepository;
+    private final DependencyPreResolver dependencyPreResolver;
 
     @Inject
     public LifecycleModuleBuilder(
@@ -63,13 +66,17 @@ public LifecycleModuleBuilder(
             ExecutionEventCatapult eventCatapult,
             List<ProjectExecutionListener> listeners,
             ConsumerPomArtifactTransformer consumerPomArtifactTransformer,
-            SessionScope sessionScope) {
+            SessionScope sessionScope,
+            BuildTimingRepository buildTimingRepository,
+            DependencyPreResolver dependencyPreResolver) {
         this.mojoExecutor = mojoExecutor;
         this.builderCommon = builderCommon;
         this.eventCatapult = eventCatapult;
         this.projectExecutionListener = new CompoundProjectExecutionListener(listeners);
         this.consumerPomArtifactTransformer = consumerPomArtifactTransformer;
         this.sessionScope = sessionScope;
+        this.buildTimingRepository = buildTimingRepository;
+        this.dependencyPreResolver = dependencyPreResolver;
     }
 
     public void buildProject(
@@ -100,8 +107,12 @@ public void buildProject(
 
             projectExecutionListener.beforeProjectExecution(new ProjectExecutionEvent(session, currentProject));
 
+            buildTimingRepository.projectTaskSegmentStarted(
+                    session, currentProject, BuilderCommon.getTasks(taskSegment));
             eventCatapult.fire(ExecutionEvent.Type.ProjectStarted, session, null);
 
+            dependencyPreResolver.awaitPreResolution(session, currentProject);
+
             MavenExecutionPlan executionPlan =
                     builderCommon.resolveBuildPlan(session, currentProject, taskSegment, new HashSet<>());
             List<MojoExecution> mojoExecutions = executionPlan.getMojoExecutions();
@@ -60,6 +60,8 @@ public class LifecycleStarter {
 
     private final SessionScope sessionScope;
 
+    private final DependencyPreResolver dependencyPreResolver;
+
     @Inject
     public LifecycleStarter(
             ExecutionEventCatapult eventCatapult,
@@ -68,7 +70,8 @@ public LifecycleStarter(
             LifecycleDebugLogger lifecycleDebugLogger,
             LifecycleTaskSegmentCalculator lifecycleTaskSegmentCalculator,
             Map<String, Builder> builders,
-            SessionScope sessionScope) {
+            SessionScope sessionScope,
+            DependencyPreResolver dependencyPreResolver) {
         this.eventCatapult = eventCatapult;
         this.defaultLifeCycles = defaultLifeCycles;
         this.buildListCalculator = buildListCalculator;
@@ -76,6 +79,7 @@ public LifecycleStarter(
         this.lifecycleTaskSegmentCalculator = lifecycleTaskSegmentCalculator;
         this.builders = builders;
         this.sessionScope = sessionScope;
+        this.dependencyPreResolver = dependencyPreResolver;
     }
 
     public void execute(MavenSession session) {
@@ -126,11 +130,14 @@ public void execute(MavenSession session) {
                         "Using the %s implementation with a thread count of %d",
                         builder.getClass().getSimpleName(), degreeOfConcurrency));
             }
+
+            dependencyPreResolver.start(session, projectBuilds.getByTaskSegment(taskSegments.get(0)));
             builder.build(session, reactorContext, projectBuilds, taskSegments, reactorBuildStatus);
 
         } catch (Exception e) {
             result.addException(e);
         } finally {
+            dependencyPreResolver.stop(session);
             eventCatapult.fire(ExecutionEvent.Type.SessionEnded, session, null);
         }
     }
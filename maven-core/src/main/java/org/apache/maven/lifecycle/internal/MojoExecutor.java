@@ -42,6 +42,7 @@
 import org.apache.maven.artifact.resolver.filter.CumulativeScopeArtifactFilter;
 import org.apache.maven.execution.ExecutionEvent;
 import org.apache.maven.execution.MavenSession;
+import org.apache.maven.feature.Features;
 import org.apache.maven.internal.MultilineMessageHelper;
 import org.apache.maven.lifecycle.LifecycleExecutionException;
 import org.apache.maven.lifecycle.MissingProjectException;
@@ -80,6 +81,8 @@ public class MojoExecutor {
     private final LifecycleDependencyResolver lifeCycleDependencyResolver;
     private final ExecutionEventCatapult eventCatapult;
 
+    private static final String SCOPED_AGGREGATOR_LOCKS_KEY = MojoExecutor.class.getName() + ".scopedAggregatorLocks";
+
     private final OwnerReentrantReadWriteLock aggregatorLock = new OwnerReentrantReadWriteLock();
 
     private final Provider<MojosExecutionStrategy> mojosExecutionStrategy;
@@ -219,53 +222,68 @@ private void execute(
      * by concurrently running mojo executions. To prevent race conditions, an aggregating execution will block
      * all other executions until finished.
      * We also lock on a given project to forbid a forked lifecycle to be executed concurrently with the project.
+     * With {@code maven.experimental.scopedAggregatorLocks}, an aggregating execution only locks the projects it
+     * aggregates instead, i.e. the project and its collected modules, so the rest of the reactor keeps building.
+     * Those project locks are always acquired in reactor order.
      * TODO: ideally, the builder should take care of the ordering in a smarter way
      * TODO: and concurrency issues fixed with MNG-7157
      */
-    private class ProjectLock implements AutoCloseable {
+    class ProjectLock implements AutoCloseable {
         final Lock acquiredAggregatorLock;
-        final OwnerReentrantLock acquiredProjectLock;
+        final List<OwnerReentrantLock> acquiredProjectLocks;
 
         ProjectLock(MavenSession session, MojoDescriptor mojoDescriptor) {
             mojos.put(Thread.currentThread(), mojoDescriptor);
             if (session.getRequest().getDegreeOfConcurrency() > 1) {
                 boolean aggregator = mojoDescriptor.isAggregator();
-                acquiredAggregatorLock = aggregator ? aggregatorLock.writeLock() : aggregatorLock.readLock();
-                acquiredProjectLock = getProjectLock(session);
-                if (!acquiredAggregatorLock.tryLock()) {
-                    Thread owner = aggregatorLock.getOwner();
-                    MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
-                    String str = ownerMojo != null ? " The " + ownerMojo.getId() : "An";
-                    String msg = str + " aggregator mojo is already being executed "
-                            + "in this parallel build, those kind of mojos require exclusive access to "
-                            + "reactor to prevent race conditions. This mojo execution will be blocked "
-                            + "until the aggregator mojo is done.";
-                    warn(msg);
-                    acquiredAggregatorLock.lock();
+                List<MavenProject> projects;
+                if (isScopedAggregatorLocks(session)) {
+                    acquiredAggregatorLock = null;
+                    projects =
+                            LifecycleDependencyResolver.getProjects(session.getCurrentProject(), session, aggregator);
+                } else {
+                    acquiredAggregatorLock = aggregator ? aggregatorLock.writeLock() : aggregatorLock.readLock();
+                    projects = Collections.singletonList(session.getCurrentProject());
+                    if (!acquiredAggregatorLock.tryLock()) {
+                        Thread owner = aggregatorLock.getOwner();
+                        MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
+                        String str = ownerMojo != null ? " The " + ownerMojo.getId() : "An";
+                        String msg = str + " aggregator mojo is already being executed "
+                                + "in this parallel build, those kind of mojos require exclusive access to "
+                                + "reactor to prevent race conditions. This mojo execution will be blocked "
+                                + "until the aggregator mojo is done.";
+                        warn(msg);
+                        acquiredAggregatorLock.lock();
+                    }
                 }
-                if (!acquiredProjectLock.tryLock()) {
-                    Thread owner = acquiredProjectLock.getOwner();
-                    MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
-                    String str = ownerMojo != null ? " The " + ownerMojo.getId() : "A";
-                    String msg = str + " mojo is already being executed "
-                            + "on the project " + session.getCurrentProject().getGroupId()
-                            + ":" + session.getCurrentProject().getArtifactId() + ". "
-                            + "This mojo execution will be blocked "
-                            + "until the mojo is done.";
-                    warn(msg);
-                    acquiredProjectLock.lock();
+                acquiredProjectLocks = new ArrayList<>(projects.size());
+                for (MavenProject project : projects) {
+                    OwnerReentrantLock acquiredProjectLock = getProjectLock(session, project);
+                    if (!acquiredProjectLock.tryLock()) {
+                        Thread owner = acquiredProjectLock.getOwner();
+                        MojoDescriptor ownerMojo = owner != null ? mojos.get(owner) : null;
+                        String str = ownerMojo != null ? " The " + ownerMojo.getId() : "A";
+                        String msg = str + " mojo is already being executed "
+                                + "on the project " + project.getGroupId()
+                                + ":" + project.getArtifactId() + ". "
+                                + "This mojo execution will be blocked "
+                                + "until the mojo is done.";
+                        warn(msg);
+                        acquiredProjectLock.lock();
+                    }
+                    acquiredProjectLocks.add(acquiredProjectLock);
                 }
             } else {
                 acquiredAggregatorLock = null;
-                acquiredProjectLock = null;
+                acquiredProjectLocks = Collections.emptyList();
             }
         }
 
         @Override
         public void close() {
-            // release the lock in the reverse order of the acquisition
-            if (acquiredProjectLock != null) {
-                acquiredProjectLock.unlock();
+            // release the locks in the reverse order of the acquisition
+            for (int i = acquiredProjectLocks.size() - 1; i >= 0; i--) {
+                acquiredProjectLocks.get(i).unlock();
             }
             if (acquiredAggregatorLock != null) {
                 acquiredAggregatorLock.unlock();
@@ -273,12 +291,20 @@ public void close() {
             mojos.remove(Thread.currentThread());
         }
 
+        private boolean isScopedAggregatorLocks(MavenSession session) {
+            // resolved once per session rather than for every mojo execution
+            SessionData data = session.getRepositorySession().getData();
+            return (Boolean) data.computeIfAbsent(
+                    SCOPED_AGGREGATOR_LOCKS_KEY, () -> Features.scopedAggregatorLocks(session.getUserProperties())
+                            .isActive());
+        }
+
         @SuppressWarnings({"unchecked", "rawtypes"})
-        private OwnerReentrantLock getProjectLock(MavenSession session) {
+        private OwnerReentrantLock getProjectLock(MavenSession session, MavenProject project) {
             SessionData data = session.getRepositorySession().getData();
             Map<MavenProject, OwnerReentrantLock> locks =
                     (Map) data.computeIfAbsent(ProjectLock.class, ConcurrentHashMap::new);
-            return locks.computeIfAbsent(session.getCurrentProject(), p -> new OwnerReentrantLock());
+            return locks.computeIfAbsent(project, p -> new OwnerReentrantLock());
         }
     }
 
@@ -207,4 +207,8 @@ public static void attachToThread(MavenProject currentProject) {
     public static String getKey(MavenProject project) {
         return project.getGroupId() + ':' + project.getArtifactId() + ':' + project.getVersion();
     }
+
+    public static String getTasks(TaskSegment taskSegment) {
+        return taskSegment.getTasks().stream().map(Object::toString).collect(Collectors.joining(","));
+    }
 }
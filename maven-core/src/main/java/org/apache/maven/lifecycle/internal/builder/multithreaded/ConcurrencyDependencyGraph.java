@@ -19,9 +19,12 @@
 package org.apache.maven.lifecycle.internal.builder.multithreaded;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.maven.execution.ProjectDependencyGraph;
@@ -33,21 +36,77 @@
  * <p>
  * Presents a view of the Dependency Graph that is suited for concurrent building.
  * </p>
+ * <p>
+ * The direct dependencies of every build are counted once, when the graph is created. Marking a project as finished
+ * decrements the counters of its direct downstream builds, so finding the builds that became ready only costs the
+ * number of downstream builds of the finished project.
+ * </p>
  * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
  *
  * @since 3.0
  */
 public class ConcurrencyDependencyGraph {
 
+    private static final int[] NO_DOWNSTREAM = new int[0];
+
     private final ProjectBuildList projectBuilds;
 
     private final ProjectDependencyGraph projectDependencyGraph;
 
     private final Set<MavenProject> finishedProjects = new HashSet<>();
 
+    private final Map<MavenProject, Integer> ordinals;
+
+    private final MavenProject[] projects;
+
+    /**
+     * Number of direct upstream projects that have not finished yet, per build ordinal.
+     */
+    private final int[] pendingDependencies;
+
+    /**
+     * Ordinals of the direct downstream builds, per build ordinal.
+     */
+    private final int[][] downstreamBuilds;
+
     public ConcurrencyDependencyGraph(ProjectBuildList projectBuilds, ProjectDependencyGraph projectDependencyGraph) {
         this.projectDependencyGraph = projectDependencyGraph;
         this.projectBuilds = projectBuilds;
+
+        int size = projectBuilds.size();
+        this.ordinals = new HashMap<>(size * 2);
+        this.projects = new MavenProject[size];
+        for (ProjectSegment projectBuild : projectBuilds) {
+            MavenProject project = projectBuild.getProject();
+            if (!ordinals.containsKey(project)) {
+                projects[ordinals.size()] = project;
+                ordinals.put(project, ordinals.size());
+            }
+        }
+
+        this.pendingDependencies = new int[ordinals.size()];
+        this.downstreamBuilds = new int[ordinals.size()][];
+        for (int i = 0; i < ordinals.size(); i++) {
+            pendingDependencies[i] = projectDependencyGraph
+                    .getUpstreamProjects(projects[i], false)
+                    .size();
+            downstreamBuilds[i] = toOrdinals(projectDependencyGraph.getDownstreamProjects(projects[i], false));
+        }
+    }
+
+    private int[] toOrdinals(List<MavenProject> mavenProjects) {
+        if (mavenProjects.isEmpty()) {
+            return NO_DOWNSTREAM;
+        }
+        int[] result = new int[mavenProjects.size()];
+        int count = 0;
+        for (MavenProject mavenProject : mavenProjects) {
+            Integer ordinal = ordinals.get(mavenProject);
+            if (ordinal != null) {
+                result[count++] = ordinal;
+            }
+        }
+        return count == result.length ? result : Arrays.copyOf(result, count);
     }
 
     public int getNumberOfBuilds() {
@@ -60,19 +119,17 @@ public int getNumberOfBuilds() {
      * @return A set of all the initial builds
      */
     public List<MavenProject> getRootSchedulableBuilds() {
-        Set<MavenProject> result = new LinkedHashSet<>();
-        for (ProjectSegment projectBuild : projectBuilds) {
-            if (projectDependencyGraph
-                    .getUpstreamProjects(projectBuild.getProject(), false)
-                    .isEmpty()) {
-                result.add(projectBuild.getProject());
+        List<MavenProject> result = new ArrayList<>();
+        for (int i = 0; i < pendingDependencies.length; i++) {
+            if (pendingDependencies[i] == 0) {
+                result.add(projects[i]);
             }
         }
         if (result.isEmpty() && projectBuilds.size() > 0) {
             // Must return at least one project
             result.add(projectBuilds.get(0).getProject());
         }
-        return new ArrayList<>(result);
+        return result;
     }
 
     /**
@@ -82,18 +139,23 @@ public List<MavenProject> getRootSchedulableBuilds() {
      * @return The list of builds that are eligible for starting now that the provided project is done
      */
     public List<MavenProject> markAsFinished(MavenProject mavenProject) {
-        finishedProjects.add(mavenProject);
+        if (!finishedProjects.add(mavenProject)) {
+            // already finished, its downstream builds have been released before
+            return Collections.emptyList();
+        }
         return getSchedulableNewProcesses(mavenProject);
     }
 
     private List<MavenProject> getSchedulableNewProcesses(MavenProject finishedProject) {
+        Integer ordinal = ordinals.get(finishedProject);
+        int[] downstream = ordinal != null
+                ? downstreamBuilds[ordinal]
+                : toOrdinals(projectDependencyGraph.getDownstreamProjects(finishedProject, false));
         List<MavenProject> result = new ArrayList<>();
         // schedule dependent projects, if all of their requirements are met
-        for (MavenProject dependentProject : projectDependencyGraph.getDownstreamProjects(finishedProject, false)) {
-            final List<MavenProject> upstreamProjects =
-                    projectDependencyGraph.getUpstreamProjects(dependentProject, false);
-            if (finishedProjects.containsAll(upstreamProjects)) {
-                result.add(dependentProject);
+        for (int dependent : downstream) {
+            if (--pendingDependencies[dependent] == 0) {
+                result.add(projects[dependent]);
             }
         }
         return result;
@@ -136,7 +198,7 @@ protected List<MavenProject> getDependencies(MavenProject p) {
      * @return List of uncompleted prerequisite projects
      */
     public List<MavenProject> getActiveDependencies(MavenProject p) {
-        List<MavenProject> activeDependencies = projectDependencyGraph.getUpstreamProjects(p, false);
+        List<MavenProject> activeDependencies = new ArrayList<>(projectDependencyGraph.getUpstreamProjects(p, false));
         activeDependencies.removeAll(finishedProjects);
         return activeDependencies;
     }
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import org.apache.maven.execution.ProjectDependencyGraph;
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.lifecycle.internal.ProjectSegment;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Orders projects so that the ones heading the longest chain of downstream builds come first.
+ * <p>
+ * The weight of a project is its own cost plus the highest weight among its direct downstream projects of the same
+ * build list. Projects with equal weights keep the order of the build list.
+ * </p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+class CriticalPathComparator implements Comparator<MavenProject> {
+
+    private final Map<MavenProject, Long> weights;
+
+    private final Map<MavenProject, Integer> order;
+
+    /**
+     * @param projectBuilds the builds to rank, in reactor (topological) order
+     * @param projectDependencyGraph the reactor dependency graph
+     * @param cost the cost of building a single project, values below one are treated as one
+     */
+    CriticalPathComparator(
+            ProjectBuildList projectBuilds,
+            ProjectDependencyGraph projectDependencyGraph,
+            ToLongFunction<MavenProject> cost) {
+        int size = projectBuilds.size();
+        this.weights = new HashMap<>(size * 2);
+        this.order = new HashMap<>(size * 2);
+        // walk the build list backwards so that downstream weights are known before their upstream projects
+        for (int i = size - 1; i >= 0; i--) {
+            ProjectSegment segment = projectBuilds.get(i);
+            MavenProject project = segment.getProject();
+            long downstream = 0;
+            for (MavenProject dependent : projectDependencyGraph.getDownstreamProjects(project, false)) {
+                Long weight = weights.get(dependent);
+                if (weight != null && weight > downstream) {
+                    downstream = weight;
+                }
+            }
+            weights.put(project, Math.max(1L, cost.applyAsLong(project)) + downstream);
+            order.put(project, i);
+        }
+    }
+
+    /**
+     * @param project the project
+     * @return the weight of the longest build chain starting at the given project, or {@code 0} if unknown
+     */
+    long getWeight(MavenProject project) {
+        return weights.getOrDefault(project, 0L);
+    }
+
+    @Override
+    public int compare(MavenProject p1, MavenProject p2) {
+        int result = Long.compare(getWeight(p2), getWeight(p1));
+        if (result == 0) {
+            result = Integer.compare(
+                    order.getOrDefault(p1, Integer.MAX_VALUE), order.getOrDefault(p2, Integer.MAX_VALUE));
+        }
+        return result;
+    }
+}
@@ -22,8 +22,13 @@
 import javax.inject.Named;
 import javax.inject.Singleton;
 
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletionService;
@@ -33,8 +38,10 @@
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 import java.util.stream.Collectors;
 
+import org.apache.maven.execution.BuildTimingRepository;
 import org.apache.maven.execution.MavenSession;
 import org.apache.maven.lifecycle.internal.BuildThreadFactory;
 import org.apache.maven.lifecycle.internal.LifecycleModuleBuilder;
@@ -44,7 +51,9 @@
 import org.apache.maven.lifecycle.internal.ReactorContext;
 import org.apache.maven.lifecycle.internal.TaskSegment;
 import org.apache.maven.lifecycle.internal.builder.Builder;
+import org.apache.maven.lifecycle.internal.builder.BuilderCommon;
 import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.util.ConfigUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -55,6 +64,12 @@
  * set with <code>-T</code> on the command-line) and the number of projects to build. As such, building a single project
  * will always result in a sequential build, regardless of the thread count.
  * </p>
+ * <p>
+ * Projects that are ready to be built are started in reactor order by default. Setting the
+ * <code>maven.builder.scheduling</code> property to <code>critical-path</code> starts the projects heading the
+ * longest chain of downstream builds first instead. The chains are weighted with the project durations of the
+ * previous build when <code>maven.build.timings</code> is enabled, otherwise every project counts the same.
+ * </p>
  * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
  *
  * @since 3.0
@@ -64,13 +79,24 @@
 @Named("multithreaded")
 @Singleton
 public class MultiThreadedBuilder implements Builder {
+    private static final String MAVEN_BUILDER_SCHEDULING_KEY = "maven.builder.scheduling";
+
+    private enum Scheduling {
+        DEFAULT, // ready projects are started in reactor order
+        CRITICAL_PATH // ready projects heading the longest chain of downstream builds are started first
+    }
+
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
     private final LifecycleModuleBuilder lifecycleModuleBuilder;
 
+    private final BuildTimingRepository buildTimingRepository;
+
     @Inject
-    public MultiThreadedBuilder(LifecycleModuleBuilder lifecycleModuleBuilder) {
+    public MultiThreadedBuilder(
+            LifecycleModuleBuilder lifecycleModuleBuilder, BuildTimingRepository buildTimingRepository) {
         this.lifecycleModuleBuilder = lifecycleModuleBuilder;
+        this.buildTimingRepository = buildTimingRepository;
     }
 
     @Override
@@ -92,6 +118,7 @@ public void build(
         }
         ExecutorService executor = Executors.newFixedThreadPool(nThreads, new BuildThreadFactory());
         CompletionService<ProjectSegment> service = new ExecutorCompletionService<>(executor);
+        Scheduling scheduling = parseScheduling(session);
 
         // Currently disabled
         ThreadOutputMuxer muxer = null; // new ThreadOutputMuxer( analyzer.getProjectBuilds(), System.out );
@@ -102,8 +129,22 @@ public void build(
             try {
                 ConcurrencyDependencyGraph analyzer =
                         new ConcurrencyDependencyGraph(segmentProjectBuilds, session.getProjectDependencyGraph());
+                Queue<MavenProject> readyProjects = scheduling == Scheduling.CRITICAL_PATH
+                        ? new PriorityQueue<>(new CriticalPathComparator(
+                                segmentProjectBuilds,
+                                session.getProjectDependencyGraph(),
+                                getProjectCosts(session, segmentProjectBuilds, taskSegment)))
+                        : new ArrayDeque<>();
                 multiThreadedProjectTaskSegmentBuild(
-                        analyzer, reactorContext, session, service, taskSegment, projectBuildMap, muxer);
+                        analyzer,
+                        reactorContext,
+                        session,
+                        service,
+                        nThreads,
+                        readyProjects,
+                        taskSegment,
+                        projectBuildMap,
+                        muxer);
                 if (reactorContext.getReactorBuildStatus().isHalted()) {
                     break;
                 }
@@ -117,11 +158,51 @@ public void build(
         executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
     }
 
+    private Scheduling parseScheduling(MavenSession session) {
+        String scheduling = ConfigUtils.getString(session.getRepositorySession(), null, MAVEN_BUILDER_SCHEDULING_KEY);
+        if (scheduling == null || scheduling.isEmpty()) {
+            return Scheduling.DEFAULT;
+        }
+        try {
+            return Scheduling.valueOf(scheduling.toUpperCase(Locale.ENGLISH).replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            logger.warn(
+                    "Invalid value specified for property {}: '{}'. Supported values are (case insensitive): {}",
+                    MAVEN_BUILDER_SCHEDULING_KEY,
+                    scheduling,
+                    Arrays.toString(Scheduling.values()));
+            return Scheduling.DEFAULT;
+        }
+    }
+
+    /**
+     * Gets the durations of the previous build as project costs. Projects without a recorded duration are assumed to
+     * take the average time of the others.
+     */
+    private ToLongFunction<MavenProject> getProjectCosts(
+            MavenSession session, ProjectBuildList projectBuilds, TaskSegment taskSegment) {
+        String tasks = BuilderCommon.getTasks(taskSegment);
+        Map<MavenProject, Long> durations = projectBuilds.getProjects().stream()
+                .collect(Collectors.toMap(
+                        Function.identity(), p -> buildTimingRepository.getProjectDuration(session, p, tasks)));
+        long average = (long) durations.values().stream()
+                .filter(duration -> duration >= 0)
+                .mapToLong(Long::longValue)
+                .average()
+                .orElse(1);
+        return p -> {
+            long duration = durations.getOrDefault(p, -1L);
+            return duration >= 0 ? duration : average;
+        };
+    }
+
     private void multiThreadedProjectTaskSegmentBuild(
             ConcurrencyDependencyGraph analyzer,
             ReactorContext reactorContext,
             MavenSession rootSession,
             CompletionService<ProjectSegment> service,
+            int nThreads,
+            Queue<MavenProject> readyProjects,
             TaskSegment taskSegment,
             Map<MavenProject, ProjectSegment> projectBuildList,
             ThreadOutputMuxer muxer) {
@@ -136,38 +217,30 @@ private void multiThreadedProjectTaskSegmentBuild(
                 .collect(Collectors.toSet());
 
         // schedule independent projects
-        for (MavenProject mavenProject : analyzer.getRootSchedulableBuilds()) {
-            ProjectSegment projectSegment = projectBuildList.get(mavenProject);
-            logger.debug("Scheduling: " + projectSegment.getProject());
-            Callable<ProjectSegment> cb = createBuildCallable(
-                    rootSession, projectSegment, reactorContext, taskSegment, muxer, duplicateArtifactIds);
-            service.submit(cb);
-        }
+        readyProjects.addAll(analyzer.getRootSchedulableBuilds());
+        int running = 0;
 
         // for each finished project
         for (int i = 0; i < analyzer.getNumberOfBuilds(); i++) {
+            // only hand over as many projects as there are threads, so the next pick is made when one becomes free
+            for (; running < nThreads && !readyProjects.isEmpty(); running++) {
+                ProjectSegment projectSegment = projectBuildList.get(readyProjects.poll());
+                logger.debug("Scheduling: " + projectSegment.getProject());
+                Callable<ProjectSegment> cb = createBuildCallable(
+                        rootSession, projectSegment, reactorContext, taskSegment, muxer, duplicateArtifactIds);
+                service.submit(cb);
+            }
+
             try {
                 ProjectSegment projectBuild = service.take().get();
+                running--;
                 if (reactorContext.getReactorBuildStatus().isHalted()) {
                     break;
                 }
 
                 // MNG-6170: Only schedule other modules from reactor if we have more modules to build than one.
                 if (analyzer.getNumberOfBuilds() > 1) {
-                    final List<MavenProject> newItemsThatCanBeBuilt =
-                            analyzer.markAsFinished(projectBuild.getProject());
-                    for (MavenProject mavenProject : newItemsThatCanBeBuilt) {
-                        ProjectSegment scheduledDependent = projectBuildList.get(mavenProject);
-                        logger.debug("Scheduling: " + scheduledDependent);
-                        Callable<ProjectSegment> cb = createBuildCallable(
-                                rootSession,
-                                scheduledDependent,
-                                reactorContext,
-                                taskSegment,
-                                muxer,
-                                duplicateArtifactIds);
-                        service.submit(cb);
-                    }
+                    readyProjects.addAll(analyzer.markAsFinished(projectBuild.getProject()));
                 }
             } catch (InterruptedException e) {
                 rootSession.getResult().addException(e);
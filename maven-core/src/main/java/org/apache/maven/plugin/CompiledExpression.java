@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.codehaus.plexus.util.introspection.ReflectionValueExtractor;
+
+/**
+ * A property path of a plugin parameter expression such as {@code project.build.directory}, compiled into a chain of
+ * getters. The expression is parsed once and the getters of each class are looked up once, so evaluating the
+ * same expression for many mojo executions only invokes the getters. Expressions using indexed or mapped properties
+ * are left to {@link ReflectionValueExtractor}, which yields the same results for plain property paths.
+ * <p>
+ * <strong>NOTE:</strong> This class is not part of any public api and can be changed or deleted without prior notice.
+ *
+ * @since 4.0.0
+ */
+final class CompiledExpression {
+
+    /**
+     * The maximum number of compiled expressions, mojo descriptors only use a few distinct ones.
+     */
+    private static final int MAX_COMPILED_EXPRESSIONS = 4096;
+
+    private static final Map<String, CompiledExpression> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The getters of each class by property name, a missing getter is mapped to a {@code null} method.
+     */
+    private static final ClassValue<Map<String, Getter>> GETTERS = new ClassValue<Map<String, Getter>>() {
+        @Override
+        protected Map<String, Getter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final String expression;
+
+    /**
+     * The properties following the root token, or {@code null} if the expression is not a plain property path.
+     */
+    private final String[] properties;
+
+    private CompiledExpression(String expression, String[] properties) {
+        this.expression = expression;
+        this.properties = properties;
+    }
+
+    /**
+     * Evaluates the given expression against the specified root object. Like
+     * {@link ReflectionValueExtractor#evaluate(String, Object)}, the root token of the expression is ignored.
+     *
+     * @param expression the expression to evaluate, must not be {@code null}
+     * @param root the root object, may be {@code null}
+     * @return the value of the expression or {@code null} if a property along the path is {@code null} or missing
+     * @throws Exception if a getter failed
+     */
+    static Object evaluate(String expression, Object root) throws Exception {
+        CompiledExpression compiled = COMPILED_EXPRESSIONS.get(expression);
+        if (compiled == null) {
+            compiled = compile(expression);
+            if (COMPILED_EXPRESSIONS.size() < MAX_COMPILED_EXPRESSIONS) {
+                COMPILED_EXPRESSIONS.putIfAbsent(expression, compiled);
+            }
+        }
+        return compiled.evaluate(root);
+    }
+
+    static CompiledExpression compile(String expression) {
+        String[] tokens = expression.split("\\.", -1);
+        if (tokens.length < 2) {
+            return new CompiledExpression(expression, null);
+        }
+        for (String token : tokens) {
+            if (!isIdentifier(token)) {
+                return new CompiledExpression(expression, null);
+            }
+        }
+        String[] properties = new String[tokens.length - 1];
+        System.arraycopy(tokens, 1, properties, 0, properties.length);
+        return new CompiledExpression(expression, properties);
+    }
+
+    private static boolean isIdentifier(String token) {
+        if (token.isEmpty() || !Character.isJavaIdentifierStart(token.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < token.length(); i++) {
+            if (!Character.isJavaIdentifierPart(token.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isPropertyPath() {
+        return properties != null;
+    }
+
+    Object evaluate(Object root) throws Exception {
+        if (properties == null) {
+            return ReflectionValueExtractor.evaluate(expression, root);
+        }
+        Object value = root;
+        for (int i = 0; i < properties.length && value != null; i++) {
+            Method getter = getGetter(value.getClass(), properties[i]);
+            if (getter == null) {
+                return null;
+            }
+            try {
+                value = getter.invoke(value);
+            } catch (IllegalAccessException e) {
+                // e.g. a class of a package that is not exported, let the extractor sort it out
+                return ReflectionValueExtractor.evaluate(expression, root);
+            }
+        }
+        return value;
+    }
+
+    private static Method getGetter(Class<?> type, String property) {
+        return GETTERS.get(type).computeIfAbsent(property, p -> new Getter(findGetter(type, p))).method;
+    }
+
+    private static Method findGetter(Class<?> type, String property) {
+        String name = Character.toTitleCase(property.charAt(0)) + property.substring(1);
+        Method getter = findGetterMethod(type, "get" + name);
+        if (getter == null) {
+            getter = findGetterMethod(type, "is" + name);
+        }
+        return getter;
+    }
+
+    /**
+     * Finds a public method without parameters through an accessible class or interface, e.g. a getter of a
+     * package-private implementation class is looked up from the public interface it implements.
+     */
+    private static Method findGetterMethod(Class<?> type, String name) {
+        if (type == null) {
+            return null;
+        }
+        Method getter = findPublicMethod(type, name);
+        if (getter == null) {
+            getter = findGetterMethod(type.getSuperclass(), name);
+        }
+        Class<?>[] interfaces = type.getInterfaces();
+        for (int i = 0; getter == null && i < interfaces.length; i++) {
+            getter = findGetterMethod(interfaces[i], name);
+        }
+        return getter;
+    }
+
+    private static Method findPublicMethod(Class<?> type, String name) {
+        if (!Modifier.isPublic(type.getModifiers())) {
+            return null;
+        }
+        try {
+            Method method = type.getDeclaredMethod(name);
+            return Modifier.isPublic(method.getModifiers()) && !Modifier.isStatic(method.getModifiers())
+                    ? method
+                    : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static final class Getter {
+
+        private final Method method;
+
+        Getter(Method method) {
+            this.method = method;
+        }
+    }
+}
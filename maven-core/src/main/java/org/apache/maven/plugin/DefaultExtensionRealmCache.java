@@ -29,6 +29,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.internal.SingleFlightLoader;
 import org.apache.maven.project.ExtensionDescriptor;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
@@ -105,6 +106,9 @@ public String toString() {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    private final SingleFlightLoader<Key, CacheRecord> loader = new SingleFlightLoader<>(
+            this::get, (key, record) -> put(key, record.getRealm(), record.getDescriptor(), record.getArtifacts()));
+
     @Override
     public Key createKey(List<Artifact> extensionArtifacts) {
         return new CacheKey(extensionArtifacts);
@@ -114,6 +118,11 @@ public CacheRecord get(Key key) {
         return cache.get(key);
     }
 
+    @Override
+    public CacheRecord get(Key key, ExtensionRealmSupplier supplier) throws PluginManagerException {
+        return loader.get(key, supplier::load);
+    }
+
     public CacheRecord put(
             Key key, ClassRealm extensionRealm, ExtensionDescriptor extensionDescriptor, List<Artifact> artifacts) {
         Objects.requireNonNull(extensionRealm, "extensionRealm cannot be null");
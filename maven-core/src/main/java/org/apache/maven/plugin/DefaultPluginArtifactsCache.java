@@ -30,6 +30,7 @@
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.internal.SingleFlightLoader;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.project.MavenProject;
 import org.eclipse.aether.RepositorySystemSession;
@@ -118,6 +119,12 @@ public boolean equals(Object o) {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    // looks up the map directly, get(Key) throws the exception of a cached failure
+    private final SingleFlightLoader<Key, CacheRecord> loader = new SingleFlightLoader<>(
+            cache::get,
+            (key, record) ->
+                    record.getException() != null ? put(key, record.getException()) : put(key, record.getArtifacts()));
+
     public Key createKey(
             Plugin plugin,
             DependencyFilter extensionFilter,
@@ -136,6 +143,21 @@ public CacheRecord get(Key key) throws PluginResolutionException {
         return cacheRecord;
     }
 
+    @Override
+    public CacheRecord get(Key key, PluginArtifactsSupplier supplier) throws PluginResolutionException {
+        CacheRecord cacheRecord = loader.get(key, () -> {
+            try {
+                return new CacheRecord(supplier.load());
+            } catch (PluginResolutionException e) {
+                return new CacheRecord(e);
+            }
+        });
+        if (cacheRecord.getException() != null) {
+            throw cacheRecord.getException();
+        }
+        return cacheRecord;
+    }
+
     public CacheRecord put(Key key, List<Artifact> pluginArtifacts) {
         Objects.requireNonNull(pluginArtifacts, "pluginArtifacts cannot be null");
 
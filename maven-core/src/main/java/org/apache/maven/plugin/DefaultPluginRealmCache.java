@@ -30,6 +30,7 @@
 
 import org.apache.maven.RepositoryUtils;
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.internal.SingleFlightLoader;
 import org.apache.maven.model.Plugin;
 import org.apache.maven.project.MavenProject;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
@@ -135,6 +136,9 @@ public boolean equals(Object o) {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    private final SingleFlightLoader<Key, CacheRecord> loader =
+            new SingleFlightLoader<>(this::get, (key, record) -> put(key, record.getRealm(), record.getArtifacts()));
+
     public Key createKey(
             Plugin plugin,
             ClassLoader parentRealm,
@@ -152,23 +156,7 @@ public CacheRecord get(Key key) {
     @Override
     public CacheRecord get(Key key, PluginRealmSupplier supplier)
             throws PluginResolutionException, PluginContainerException {
-        try {
-            return cache.computeIfAbsent(key, k -> {
-                try {
-                    return supplier.load();
-                } catch (PluginResolutionException | PluginContainerException e) {
-                    throw new RuntimeException(e);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof PluginResolutionException) {
-                throw (PluginResolutionException) e.getCause();
-            }
-            if (e.getCause() instanceof PluginContainerException) {
-                throw (PluginContainerException) e.getCause();
-            }
-            throw e;
-        }
+        return loader.<PluginResolutionException, PluginContainerException>get(key, supplier::load);
     }
 
     public CacheRecord put(Key key, ClassRealm pluginRealm, List<Artifact> pluginArtifacts) {
@@ -50,7 +50,7 @@ class CacheRecord {
 
         private final List<Artifact> artifacts;
 
-        CacheRecord(ClassRealm realm, ExtensionDescriptor descriptor, List<Artifact> artifacts) {
+        public CacheRecord(ClassRealm realm, ExtensionDescriptor descriptor, List<Artifact> artifacts) {
             this.realm = realm;
             this.descriptor = descriptor;
             this.artifacts = artifacts;
@@ -69,10 +69,31 @@ public List<Artifact> getArtifacts() {
         }
     }
 
+    @FunctionalInterface
+    interface ExtensionRealmSupplier {
+        CacheRecord load() throws PluginManagerException;
+    }
+
     Key createKey(List<Artifact> extensionArtifacts);
 
     CacheRecord get(Key key);
 
+    /**
+     * Gets the cached record of the given key, creating it with the supplier first if needed. Concurrent callers of
+     * the same key wait for a single creation. The default implementation does not coordinate concurrent callers, it
+     * creates and puts the record if {@link #get(Key)} returns none.
+     *
+     * @since 4.0.0
+     */
+    default CacheRecord get(Key key, ExtensionRealmSupplier supplier) throws PluginManagerException {
+        CacheRecord record = get(key);
+        if (record == null) {
+            CacheRecord created = supplier.load();
+            record = put(key, created.getRealm(), created.getDescriptor(), created.getArtifacts());
+        }
+        return record;
+    }
+
     CacheRecord put(
             Key key, ClassRealm extensionRealm, ExtensionDescriptor extensionDescriptor, List<Artifact> artifacts);
 
@@ -70,6 +70,11 @@ public CacheRecord(PluginResolutionException exception) {
         }
     }
 
+    @FunctionalInterface
+    interface PluginArtifactsSupplier {
+        List<Artifact> load() throws PluginResolutionException;
+    }
+
     Key createKey(
             Plugin plugin,
             DependencyFilter extensionFilter,
@@ -78,6 +83,27 @@ Key createKey(
 
     CacheRecord get(Key key) throws PluginResolutionException;
 
+    /**
+     * Gets the cached record of the given key, resolving the artifacts with the supplier first if needed. Concurrent
+     * callers of the same key wait for a single resolution. A resolution failure is cached like a result. The default
+     * implementation does not coordinate concurrent callers, it resolves and puts the artifacts if {@link #get(Key)}
+     * returns no record.
+     *
+     * @since 4.0.0
+     */
+    default CacheRecord get(Key key, PluginArtifactsSupplier supplier) throws PluginResolutionException {
+        CacheRecord record = get(key);
+        if (record == null) {
+            try {
+                record = put(key, supplier.load());
+            } catch (PluginResolutionException e) {
+                put(key, e);
+                throw e;
+            }
+        }
+        return record;
+    }
+
     CacheRecord put(Key key, List<Artifact> pluginArtifacts);
 
     CacheRecord put(Key key, PluginResolutionException e);
@@ -21,8 +21,8 @@
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Properties;
 
 import org.apache.maven.api.Project;
 import org.apache.maven.api.Session;
@@ -32,7 +32,6 @@
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.codehaus.plexus.component.configurator.expression.ExpressionEvaluationException;
 import org.codehaus.plexus.component.configurator.expression.TypeAwareExpressionEvaluator;
-import org.codehaus.plexus.util.introspection.ReflectionValueExtractor;
 
 /**
  * Evaluator for plugin parameters expressions. Content surrounded by <code>${</code> and <code>}</code> is evaluated.
@@ -81,7 +80,9 @@ public class PluginParameterExpressionEvaluatorV4 implements TypeAwareExpression
 
     private Path basedir;
 
-    private Properties properties;
+    private Map<String, String> userProperties;
+
+    private Map<String, String> systemProperties;
 
     public PluginParameterExpressionEvaluatorV4(Session session, Project project) {
         this(session, project, null);
@@ -90,15 +91,14 @@ public PluginParameterExpressionEvaluatorV4(Session session, Project project) {
     public PluginParameterExpressionEvaluatorV4(Session session, Project project, MojoExecution mojoExecution) {
         this.session = session;
         this.mojoExecution = mojoExecution;
-        this.properties = new Properties();
         this.project = project;
 
         //
-        // Maven4: We may want to evaluate how this is used but we add these separate as the
-        // getExecutionProperties is deprecated in MavenSession.
+        // Maven4: We may want to evaluate how this is used but we look these up separately as the
+        // getExecutionProperties is deprecated in MavenSession. Both are live views, so nothing is copied.
         //
-        this.properties.putAll(session.getUserProperties());
-        this.properties.putAll(session.getSystemProperties());
+        this.userProperties = session.getUserProperties();
+        this.systemProperties = session.getSystemProperties();
 
         Path basedir = null;
 
@@ -177,10 +177,10 @@ public Object evaluate(String expr, Class<?> type) throws ExpressionEvaluationEx
 
                 if (pathSeparator > 0) {
                     String pathExpression = expression.substring(1, pathSeparator);
-                    value = ReflectionValueExtractor.evaluate(pathExpression, session);
+                    value = CompiledExpression.evaluate(pathExpression, session);
                     value = value + expression.substring(pathSeparator);
                 } else {
-                    value = ReflectionValueExtractor.evaluate(expression.substring(1), session);
+                    value = CompiledExpression.evaluate(expression.substring(1), session);
                 }
             } catch (Exception e) {
                 // TODO don't catch exception
@@ -204,10 +204,10 @@ public Object evaluate(String expr, Class<?> type) throws ExpressionEvaluationEx
 
                 if (pathSeparator > 0) {
                     String pathExpression = expression.substring(0, pathSeparator);
-                    value = ReflectionValueExtractor.evaluate(pathExpression, project);
+                    value = CompiledExpression.evaluate(pathExpression, project);
                     value = value + expression.substring(pathSeparator);
                 } else {
-                    value = ReflectionValueExtractor.evaluate(expression.substring(1), project);
+                    value = CompiledExpression.evaluate(expression.substring(1), project);
                 }
             } catch (Exception e) {
                 // TODO don't catch exception
@@ -225,10 +225,10 @@ public Object evaluate(String expr, Class<?> type) throws ExpressionEvaluationEx
 
                 if (pathSeparator > 0) {
                     String pathExpression = expression.substring(1, pathSeparator);
-                    value = ReflectionValueExtractor.evaluate(pathExpression, mojoExecution);
+                    value = CompiledExpression.evaluate(pathExpression, mojoExecution);
                     value = value + expression.substring(pathSeparator);
                 } else {
-                    value = ReflectionValueExtractor.evaluate(expression.substring(1), mojoExecution);
+                    value = CompiledExpression.evaluate(expression.substring(1), mojoExecution);
                 }
             } catch (Exception e) {
                 // TODO don't catch exception
@@ -248,10 +248,10 @@ public Object evaluate(String expr, Class<?> type) throws ExpressionEvaluationEx
 
                 if (pathSeparator > 0) {
                     String pathExpression = expression.substring(1, pathSeparator);
-                    value = ReflectionValueExtractor.evaluate(pathExpression, pluginDescriptor);
+                    value = CompiledExpression.evaluate(pathExpression, pluginDescriptor);
                     value = value + expression.substring(pathSeparator);
                 } else {
-                    value = ReflectionValueExtractor.evaluate(expression.substring(1), pluginDescriptor);
+                    value = CompiledExpression.evaluate(expression.substring(1), pluginDescriptor);
                 }
             } catch (Exception e) {
                 throw new ExpressionEvaluationException(
@@ -265,10 +265,10 @@ public Object evaluate(String expr, Class<?> type) throws ExpressionEvaluationEx
 
                 if (pathSeparator > 0) {
                     String pathExpression = expression.substring(1, pathSeparator);
-                    value = ReflectionValueExtractor.evaluate(pathExpression, session.getSettings());
+                    value = CompiledExpression.evaluate(pathExpression, session.getSettings());
                     value = value + expression.substring(pathSeparator);
                 } else {
-                    value = ReflectionValueExtractor.evaluate(expression.substring(1), session.getSettings());
+                    value = CompiledExpression.evaluate(expression.substring(1), session.getSettings());
                 }
             } catch (Exception e) {
                 // TODO don't catch exception
@@ -300,13 +300,15 @@ public Object evaluate(String expr, Class<?> type) throws ExpressionEvaluationEx
         if (value == null) {
             // The CLI should win for defining properties
 
-            if (properties != null) {
-                // We will attempt to get nab a property as a way to specify a parameter
-                // to a plugin. My particular case here is allowing the surefire plugin
-                // to run a single test so I want to specify that class on the cli as
-                // a parameter.
+            // We will attempt to get nab a property as a way to specify a parameter
+            // to a plugin. My particular case here is allowing the surefire plugin
+            // to run a single test so I want to specify that class on the cli as
+            // a parameter.
+            // System properties take precedence, as they did when both were merged into one Properties.
 
-                value = properties.getProperty(expression);
+            value = systemProperties.get(expression);
+            if (value == null) {
+                value = userProperties.get(expression);
             }
 
             if ((value == null) && ((project != null) && (project.getModel().getProperties() != null))) {
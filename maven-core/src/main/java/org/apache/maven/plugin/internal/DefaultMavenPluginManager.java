@@ -620,7 +620,7 @@ private void populateMojoExecutionFields(
         String configuratorId = mojoDescriptor.getComponentConfigurator();
 
         if (configuratorId == null || configuratorId.isEmpty()) {
-            configuratorId = mojoDescriptor.isV4Api() ? "enhanced" : "basic";
+            configuratorId = mojoDescriptor.isV4Api() ? "enhanced" : "binding";
         }
 
         try {
@@ -642,7 +642,7 @@ private void populateMojoExecutionFields(
 
             Collection<Parameter> missingParameters = validator.getMissingParameters();
             if (!missingParameters.isEmpty()) {
-                if ("basic".equals(configuratorId)) {
+                if ("basic".equals(configuratorId) || "binding".equals(configuratorId)) {
                     throw new PluginParameterException(mojoDescriptor, new ArrayList<>(missingParameters));
                 } else {
                     /*
@@ -784,32 +784,21 @@ public ExtensionRealmCache.CacheRecord setupExtensionsRealm(
         // TODO: store plugin version
 
         // resolve plugin artifacts
-        List<Artifact> artifacts;
         PluginArtifactsCache.Key cacheKey = pluginArtifactsCache.createKey(plugin, null, repositories, session);
         PluginArtifactsCache.CacheRecord recordArtifacts;
         try {
-            recordArtifacts = pluginArtifactsCache.get(cacheKey);
+            recordArtifacts =
+                    pluginArtifactsCache.get(cacheKey, () -> resolveExtensionArtifacts(plugin, repositories, session));
         } catch (PluginResolutionException e) {
             throw new PluginManagerException(plugin, e.getMessage(), e);
         }
-        if (recordArtifacts != null) {
-            artifacts = recordArtifacts.getArtifacts();
-        } else {
-            try {
-                artifacts = resolveExtensionArtifacts(plugin, repositories, session);
-                recordArtifacts = pluginArtifactsCache.put(cacheKey, artifacts);
-            } catch (PluginResolutionException e) {
-                pluginArtifactsCache.put(cacheKey, e);
-                pluginArtifactsCache.register(project, cacheKey, recordArtifacts);
-                throw new PluginManagerException(plugin, e.getMessage(), e);
-            }
-        }
         pluginArtifactsCache.register(project, cacheKey, recordArtifacts);
 
+        final List<Artifact> artifacts = recordArtifacts.getArtifacts();
+
         // create and cache extensions realms
         final ExtensionRealmCache.Key extensionKey = extensionRealmCache.createKey(artifacts);
-        extensionRecord = extensionRealmCache.get(extensionKey);
-        if (extensionRecord == null) {
+        extensionRecord = extensionRealmCache.get(extensionKey, () -> {
             ClassRealm extensionRealm = classRealmManager.createExtensionRealm(plugin, toAetherArtifacts(artifacts));
 
             // TODO figure out how to use the same PluginDescriptor when running mojos
@@ -839,8 +828,8 @@ public ExtensionRealmCache.CacheRecord setupExtensionsRealm(
                     logger.error(message);
                 }
             }
-            extensionRecord = extensionRealmCache.put(extensionKey, extensionRealm, extensionDescriptor, artifacts);
-        }
+            return new ExtensionRealmCache.CacheRecord(extensionRealm, extensionDescriptor, artifacts);
+        });
         extensionRealmCache.register(project, extensionKey, extensionRecord);
         pluginRealms.put(pluginKey, extensionRecord);
 
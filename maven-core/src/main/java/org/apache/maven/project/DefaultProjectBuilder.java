@@ -35,6 +35,10 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BooleanSupplier;
 import java.util.stream.Collectors;
 
 import org.apache.maven.RepositoryUtils;
@@ -357,37 +361,59 @@ public List<ProjectBuildingResult> build(List<File> pomFiles, boolean recursive,
         ReactorModelPool.Builder poolBuilder = new ReactorModelPool.Builder();
         final ReactorModelPool modelPool = poolBuilder.build();
 
-        InternalConfig config = new InternalConfig(request, modelPool, modelBuilder.newTransformerContextBuilder());
+        // models of sibling modules are built concurrently, results are still collected in reactor order
+        ForkJoinPool pool =
+                Features.parallelModelBuilding(request.getUserProperties()).isActive()
+                                && request.getDegreeOfConcurrency() > 1
+                        ? new ForkJoinPool(request.getDegreeOfConcurrency())
+                        : null;
 
-        Map<File, MavenProject> projectIndex = new HashMap<>(256);
+        ClassLoader oldContextClassLoader = Thread.currentThread().getContextClassLoader();
 
-        // phase 1: get file Models from the reactor.
-        boolean noErrors = build(
-                results,
-                interimResults,
-                projectIndex,
-                pomFiles,
-                new LinkedHashSet<>(),
-                true,
-                recursive,
-                config,
-                poolBuilder);
+        InternalConfig config = new InternalConfig(
+                request,
+                modelPool,
+                modelBuilder.newTransformerContextBuilder(),
+                pool != null ? oldContextClassLoader : null);
 
-        ClassLoader oldContextClassLoader = Thread.currentThread().getContextClassLoader();
+        Map<File, MavenProject> projectIndex = pool != null ? new ConcurrentHashMap<>(256) : new HashMap<>(256);
+
+        boolean noErrors;
 
         try {
-            // Phase 2: get effective models from the reactor
-            noErrors = build(
+            // phase 1: get file Models from the reactor.
+            noErrors = invoke(
+                    pool,
+                    config,
+                    () -> build(
                             results,
-                            new ArrayList<>(),
-                            projectIndex,
                             interimResults,
-                            request,
-                            new HashMap<>(),
-                            config.session)
+                            projectIndex,
+                            pomFiles,
+                            new LinkedHashSet<>(),
+                            true,
+                            recursive,
+                            config,
+                            poolBuilder));
+
+            // Phase 2: get effective models from the reactor
+            noErrors = invoke(
+                            pool,
+                            config,
+                            () -> build(
+                                    results,
+                                    new ArrayList<>(),
+                                    projectIndex,
+                                    interimResults,
+                                    request,
+                                    new ConcurrentHashMap<>(),
+                                    config))
                     && noErrors;
         } finally {
             Thread.currentThread().setContextClassLoader(oldContextClassLoader);
+            if (pool != null) {
+                pool.shutdown();
+            }
         }
 
         if (Features.buildConsumer(request.getUserProperties()).isActive()) {
@@ -403,6 +429,45 @@ public List<ProjectBuildingResult> build(List<File> pomFiles, boolean recursive,
         return results;
     }
 
+    private static boolean invoke(ForkJoinPool pool, InternalConfig config, BooleanSupplier build) {
+        return pool != null ? pool.invoke(config.newTask(build)) : build.getAsBoolean();
+    }
+
+    /**
+     * Runs the given builds concurrently. Each build collects into its own lists, which are appended to the given
+     * lists in the order of the builds once all of them are done.
+     */
+    private static <T> boolean buildConcurrently(
+            InternalConfig config,
+            List<ProjectBuildingResult> results,
+            List<T> collected,
+            List<ParallelBuild<T>> builds) {
+        List<ForkJoinTask<Boolean>> tasks = new ArrayList<>(builds.size());
+        List<List<ProjectBuildingResult>> buildResults = new ArrayList<>(builds.size());
+        List<List<T>> buildCollected = new ArrayList<>(builds.size());
+        for (ParallelBuild<T> build : builds) {
+            List<ProjectBuildingResult> r = new ArrayList<>();
+            List<T> c = new ArrayList<>();
+            buildResults.add(r);
+            buildCollected.add(c);
+            tasks.add(config.newTask(() -> build.build(r, c)));
+        }
+        ForkJoinTask.invokeAll(tasks);
+
+        boolean noErrors = true;
+        for (int i = 0; i < tasks.size(); i++) {
+            noErrors = tasks.get(i).join() && noErrors;
+            results.addAll(buildResults.get(i));
+            collected.addAll(buildCollected.get(i));
+        }
+        return noErrors;
+    }
+
+    @FunctionalInterface
+    private interface ParallelBuild<T> {
+        boolean build(List<ProjectBuildingResult> results, List<T> collected);
+    }
+
     @SuppressWarnings("checkstyle:parameternumber")
     private boolean build(
             List<ProjectBuildingResult> results,
@@ -414,6 +479,17 @@ private boolean build(
             boolean recursive,
             InternalConfig config,
             ReactorModelPool.Builder poolBuilder) {
+        if (config.parallel && pomFiles.size() > 1) {
+            List<ParallelBuild<InterimResult>> builds = new ArrayList<>(pomFiles.size());
+            for (File pomFile : pomFiles) {
+                Set<File> moduleAggregatorFiles = new LinkedHashSet<>(aggregatorFiles);
+                moduleAggregatorFiles.add(pomFile);
+                builds.add((r, c) -> build(
+                        r, c, projectIndex, pomFile, moduleAggregatorFiles, root, recursive, config, poolBuilder));
+            }
+            return buildConcurrently(config, results, interimResults, builds);
+        }
+
         boolean noErrors = true;
 
         for (File pomFile : pomFiles) {
@@ -611,7 +687,17 @@ private boolean build(
             List<InterimResult> interimResults,
             ProjectBuildingRequest request,
             Map<File, Boolean> profilesXmls,
-            RepositorySystemSession session) {
+            InternalConfig config) {
+        if (config.parallel && interimResults.size() > 1) {
+            List<ParallelBuild<MavenProject>> builds = new ArrayList<>(interimResults.size());
+            for (InterimResult interimResult : interimResults) {
+                builds.add((r, c) -> build(
+                        r, c, projectIndex, Collections.singletonList(interimResult), request, profilesXmls, config));
+            }
+            return buildConcurrently(config, results, projects, builds);
+        }
+
+        RepositorySystemSession session = config.session;
         boolean noErrors = true;
 
         for (InterimResult interimResult : interimResults) {
@@ -635,7 +721,7 @@ private boolean build(
                 }
 
                 List<MavenProject> modules = new ArrayList<>();
-                noErrors = build(results, modules, projectIndex, interimResult.modules, request, profilesXmls, session)
+                noErrors = build(results, modules, projectIndex, interimResult.modules, request, profilesXmls, config)
                         && noErrors;
 
                 projects.addAll(modules);
@@ -882,12 +968,14 @@ private void initParent(
                 // At this point the DefaultModelBuildingListener has fired and it populates the
                 // remote repositories with those found in the pom.xml, along with the existing externally
                 // defined repositories.
+                // The request is shared by modules built concurrently, so the repositories are set on a copy.
                 //
-                projectBuildingRequest.setRemoteRepositories(project.getRemoteArtifactRepositories());
+                ProjectBuildingRequest parentRequest = new DefaultProjectBuildingRequest(projectBuildingRequest);
+                parentRequest.setRemoteRepositories(project.getRemoteArtifactRepositories());
                 if (parentPomFile != null) {
                     project.setParentFile(parentPomFile);
                     try {
-                        parent = build(parentPomFile, projectBuildingRequest).getProject();
+                        parent = build(parentPomFile, parentRequest).getProject();
                     } catch (ProjectBuildingException e) {
                         // MNG-4488 where let invalid parents slide on by
                         if (logger.isDebugEnabled()) {
@@ -901,7 +989,7 @@ private void initParent(
                 } else {
                     Artifact parentArtifact = project.getParentArtifact();
                     try {
-                        parent = build(parentArtifact, projectBuildingRequest).getProject();
+                        parent = build(parentArtifact, parentRequest).getProject();
                     } catch (ProjectBuildingException e) {
                         // MNG-4488 where let invalid parents slide on by
                         if (logger.isDebugEnabled()) {
@@ -962,16 +1050,51 @@ class InternalConfig {
 
         private final TransformerContextBuilder transformerContextBuilder;
 
+        private final boolean parallel;
+
+        private final ClassLoader contextClassLoader;
+
         InternalConfig(
                 ProjectBuildingRequest request,
                 ReactorModelPool modelPool,
                 TransformerContextBuilder transformerContextBuilder) {
+            this(request, modelPool, transformerContextBuilder, null);
+        }
+
+        /**
+         * @param contextClassLoader The context class loader of the caller to run the concurrent builds with, or
+         *            {@code null} to build sequentially.
+         */
+        InternalConfig(
+                ProjectBuildingRequest request,
+                ReactorModelPool modelPool,
+                TransformerContextBuilder transformerContextBuilder,
+                ClassLoader contextClassLoader) {
             this.request = request;
             this.modelPool = modelPool;
             this.transformerContextBuilder = transformerContextBuilder;
+            this.parallel = contextClassLoader != null;
+            this.contextClassLoader = contextClassLoader;
 
             session = RepositoryUtils.overlay(request.getLocalRepository(), request.getRepositorySession(), repoSystem);
             repositories = RepositoryUtils.toRepos(request.getRemoteRepositories());
         }
+
+        /**
+         * Creates a task running the given build with the context class loader of the caller, the workers of a fork
+         * join pool start with the system class loader.
+         */
+        ForkJoinTask<Boolean> newTask(BooleanSupplier build) {
+            return ForkJoinTask.adapt(() -> {
+                Thread thread = Thread.currentThread();
+                ClassLoader oldContextClassLoader = thread.getContextClassLoader();
+                thread.setContextClassLoader(contextClassLoader);
+                try {
+                    return build.getAsBoolean();
+                } finally {
+                    thread.setContextClassLoader(oldContextClassLoader);
+                }
+            });
+        }
     }
 }
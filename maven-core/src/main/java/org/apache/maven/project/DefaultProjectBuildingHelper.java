@@ -136,11 +136,9 @@ public List<ArtifactRepository> createArtifactRepositories(
         return artifactRepositories;
     }
 
-    public synchronized ProjectRealmCache.CacheRecord createProjectRealm(
+    public ProjectRealmCache.CacheRecord createProjectRealm(
             MavenProject project, Model model, ProjectBuildingRequest request)
             throws PluginResolutionException, PluginVersionResolutionException, PluginManagerException {
-        ClassRealm projectRealm;
-
         List<Plugin> extensionPlugins = new ArrayList<>();
 
         Build build = model.getBuild();
@@ -209,10 +207,8 @@ public synchronized ProjectRealmCache.CacheRecord createProjectRealm(
 
         ProjectRealmCache.Key projectRealmKey = projectRealmCache.createKey(extensionRealms);
 
-        ProjectRealmCache.CacheRecord record = projectRealmCache.get(projectRealmKey);
-
-        if (record == null) {
-            projectRealm = classRealmManager.createProjectRealm(model, toAetherArtifacts(publicArtifacts));
+        ProjectRealmCache.CacheRecord record = projectRealmCache.get(projectRealmKey, () -> {
+            ClassRealm projectRealm = classRealmManager.createProjectRealm(model, toAetherArtifacts(publicArtifacts));
 
             Set<String> exclusions = new LinkedHashSet<>();
 
@@ -244,8 +240,8 @@ public synchronized ProjectRealmCache.CacheRecord createProjectRealm(
                 extensionArtifactFilter = new ExclusionsDependencyFilter(exclusions);
             }
 
-            record = projectRealmCache.put(projectRealmKey, projectRealm, extensionArtifactFilter);
-        }
+            return new ProjectRealmCache.CacheRecord(projectRealm, extensionArtifactFilter);
+        });
 
         projectRealmCache.register(project, projectRealmKey, record);
 
@@ -61,6 +61,8 @@ public class DefaultProjectBuildingRequest implements ProjectBuildingRequest {
 
     private Date buildStartTime;
 
+    private int degreeOfConcurrency = 1;
+
     private boolean resolveDependencies;
 
     @Deprecated
@@ -92,6 +94,7 @@ public DefaultProjectBuildingRequest(ProjectBuildingRequest request) {
         setRepositorySession(request.getRepositorySession());
         setLocalRepository(request.getLocalRepository());
         setBuildStartTime(request.getBuildStartTime());
+        setDegreeOfConcurrency(request.getDegreeOfConcurrency());
         setProject(request.getProject());
         setResolveDependencies(request.isResolveDependencies());
         setValidationLevel(request.getValidationLevel());
@@ -269,6 +272,15 @@ public void setBuildStartTime(Date buildStartTime) {
         this.buildStartTime = buildStartTime;
     }
 
+    public int getDegreeOfConcurrency() {
+        return degreeOfConcurrency;
+    }
+
+    public DefaultProjectBuildingRequest setDegreeOfConcurrency(int degreeOfConcurrency) {
+        this.degreeOfConcurrency = degreeOfConcurrency;
+        return this;
+    }
+
     public RepositorySystemSession getRepositorySession() {
         return repositorySession;
     }
@@ -27,6 +27,7 @@
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.maven.internal.SingleFlightLoader;
 import org.codehaus.plexus.classworlds.realm.ClassRealm;
 import org.codehaus.plexus.classworlds.realm.NoSuchRealmException;
 import org.codehaus.plexus.personality.plexus.lifecycle.phase.Disposable;
@@ -82,6 +83,9 @@ public String toString() {
 
     protected final Map<Key, CacheRecord> cache = new ConcurrentHashMap<>();
 
+    private final SingleFlightLoader<Key, CacheRecord> loader = new SingleFlightLoader<>(
+            this::get, (key, record) -> put(key, record.getRealm(), record.getExtensionArtifactFilter()));
+
     @Override
     public Key createKey(List<? extends ClassRealm> extensionRealms) {
         return new CacheKey(extensionRealms);
@@ -91,6 +95,11 @@ public CacheRecord get(Key key) {
         return cache.get(key);
     }
 
+    @Override
+    public CacheRecord get(Key key, ProjectRealmSupplier supplier) {
+        return loader.get(key, supplier::load);
+    }
+
     public CacheRecord put(Key key, ClassRealm projectRealm, DependencyFilter extensionArtifactFilter) {
         Objects.requireNonNull(projectRealm, "projectRealm cannot be null");
 
@@ -147,6 +147,28 @@ public interface ProjectBuildingRequest {
      */
     void setBuildStartTime(Date buildStartTime);
 
+    /**
+     * Gets the number of threads the projects of a reactor may be built with.
+     *
+     * @return The degree of concurrency, {@code 1} to build sequentially.
+     * @since 4.0.0
+     */
+    default int getDegreeOfConcurrency() {
+        return 1;
+    }
+
+    /**
+     * Sets the number of threads the projects of a reactor may be built with. Implementations that do not support
+     * building concurrently ignore it.
+     *
+     * @param degreeOfConcurrency The degree of concurrency, {@code 1} to build sequentially.
+     * @return This request for chaining, never {@code null}.
+     * @since 4.0.0
+     */
+    default ProjectBuildingRequest setDegreeOfConcurrency(int degreeOfConcurrency) {
+        return this;
+    }
+
     RepositorySystemSession getRepositorySession();
 
     ProjectBuildingRequest setRepositorySession(RepositorySystemSession repositorySession);
@@ -61,10 +61,31 @@ public DependencyFilter getExtensionArtifactFilter() {
         }
     }
 
+    @FunctionalInterface
+    interface ProjectRealmSupplier {
+        CacheRecord load();
+    }
+
     Key createKey(List<? extends ClassRealm> extensionRealms);
 
     CacheRecord get(Key key);
 
+    /**
+     * Gets the cached record of the given key, creating it with the supplier first if needed. Concurrent callers of
+     * the same key wait for a single creation. The default implementation does not coordinate concurrent callers, it
+     * creates and puts the record if {@link #get(Key)} returns none.
+     *
+     * @since 4.0.0
+     */
+    default CacheRecord get(Key key, ProjectRealmSupplier supplier) {
+        CacheRecord record = get(key);
+        if (record == null) {
+            CacheRecord created = supplier.load();
+            record = put(key, created.getRealm(), created.getExtensionArtifactFilter());
+        }
+        return record;
+    }
+
     CacheRecord put(Key key, ClassRealm projectRealm, DependencyFilter extensionArtifactFilter);
 
     void flush();
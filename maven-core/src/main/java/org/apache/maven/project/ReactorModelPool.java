@@ -68,7 +68,7 @@ private String getVersion(Model model) {
     static class Builder {
         private ReactorModelPool pool = new ReactorModelPool();
 
-        Builder put(Path pomFile, Model model) {
+        synchronized Builder put(Path pomFile, Model model) {
             pool.modelsByPath.put(pomFile, model);
             pool.modelsByGa
                     .computeIfAbsent(new GAKey(getGroupId(model), model.getArtifactId()), k -> new HashSet<Model>())
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.configuration.internal;
+
+import javax.xml.stream.XMLStreamException;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.configuration.BeanConfigurationException;
+import org.apache.maven.configuration.DefaultBeanConfigurationRequest;
+import org.apache.maven.internal.xml.XmlNodeBuilder;
+import org.apache.maven.internal.xml.XmlPlexusConfiguration;
+import org.codehaus.plexus.component.configurator.expression.DefaultExpressionEvaluator;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BeanPropertyBinderTest {
+
+    private final DefaultBeanConfigurator configurator = new DefaultBeanConfigurator();
+
+    @Test
+    void testSettersAreBoundBeforeFields() throws Exception {
+        SomeBean bean = configure(new SomeBean(), "<name>test</name><count>3</count><path>a/b</path>");
+
+        assertEquals("set:test", bean.name);
+        assertEquals(3, bean.count);
+        assertEquals("a/b", bean.path);
+    }
+
+    @Test
+    void testAddersAndGenericTypes() throws Exception {
+        SomeBean bean = configure(new SomeBean(), "<item>a</item><item>b</item><values><value>1</value></values>");
+
+        assertEquals(Arrays.asList("a", "b"), bean.items);
+        assertEquals(Arrays.asList(1), bean.values);
+    }
+
+    @Test
+    void testUnknownProperty() {
+        assertThrows(BeanConfigurationException.class, () -> configure(new SomeBean(), "<unknown>x</unknown>"));
+    }
+
+    @Test
+    void testBindingsAreComputedOncePerClass() throws Exception {
+        configure(new SomeBean(), "<name>one</name>");
+        BeanPropertyBinder.PropertyBinding binding = BeanPropertyBinder.getBinding(SomeBean.class, "name");
+
+        SomeBean bean = configure(new SomeBean(), "<name>two</name>");
+
+        assertEquals("set:two", bean.name);
+        assertSame(binding, BeanPropertyBinder.getBinding(SomeBean.class, "name"));
+        assertNotNull(binding.setter);
+        assertNull(BeanPropertyBinder.getBinding(SomeBean.class, "count").setter);
+        assertNotNull(BeanPropertyBinder.getBinding(SomeBean.class, "count").field);
+    }
+
+    @Test
+    void testBindingConfiguratorSetsPropertiesLikeTheBasicOne() throws Exception {
+        SomeBean bean = new SomeBean();
+        new BindingComponentConfigurator()
+                .configureComponent(
+                        bean,
+                        new XmlPlexusConfiguration(toConfig("<name>test</name><count>3</count><item>a</item>")
+                                .getDom()),
+                        new DefaultExpressionEvaluator(),
+                        null,
+                        null);
+
+        assertEquals("set:test", bean.name);
+        assertEquals(3, bean.count);
+        assertEquals(Arrays.asList("a"), bean.items);
+    }
+
+    private <T> T configure(T bean, String xml) throws BeanConfigurationException {
+        DefaultBeanConfigurationRequest request = new DefaultBeanConfigurationRequest();
+        request.setBean(bean).setConfiguration(toConfig(xml));
+        configurator.configureBean(request);
+        return bean;
+    }
+
+    private static Xpp3Dom toConfig(String xml) {
+        try {
+            return new Xpp3Dom(XmlNodeBuilder.build(
+                    new StringReader("<configuration>" + xml + "</configuration>"),
+                    (XmlNodeBuilder.InputLocationBuilderStax) null));
+        } catch (XMLStreamException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    static class BaseBean {
+
+        String path;
+    }
+
+    public static class SomeBean extends BaseBean {
+
+        String name;
+
+        int count;
+
+        List<String> items = new ArrayList<>();
+
+        List<Integer> values;
+
+        public void setName(String name) {
+            this.name = "set:" + name;
+        }
+
+        public void addItem(String item) {
+            items.add(item);
+        }
+
+        public void setValues(List<Integer> values) {
+            this.values = values;
+        }
+    }
+}
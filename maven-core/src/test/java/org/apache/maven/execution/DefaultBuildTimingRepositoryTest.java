@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.execution;
+
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Plugin;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.eclipse.aether.DefaultSessionData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class DefaultBuildTimingRepositoryTest {
+    private final DefaultBuildTimingRepository repository = new DefaultBuildTimingRepository();
+
+    @TempDir
+    Path buildDirectory;
+
+    private DefaultRepositorySystemSession repositorySession;
+
+    private MavenProject project;
+
+    private MojoExecution mojoExecution;
+
+    private final String compile = "compile";
+
+    private final String stage = "site:stage";
+
+    private final String install = "clean,install";
+
+    @BeforeEach
+    void setUp() {
+        repositorySession = new DefaultRepositorySystemSession();
+        repositorySession.setConfigProperty("maven.build.timings", "true");
+
+        project = new MavenProject();
+        project.setGroupId("org.apache");
+        project.setArtifactId("module-a");
+        project.setExecutionRoot(true);
+        Build build = new Build();
+        build.setDirectory(buildDirectory.toString());
+        project.setBuild(build);
+
+        Plugin plugin = new Plugin();
+        plugin.setArtifactId("maven-compiler-plugin");
+        mojoExecution = new MojoExecution(plugin, "compile", "default-compile");
+    }
+
+    @Test
+    void timingsArePersistedAndLoaded() throws Exception {
+        MavenSession session = newSession();
+        fire(ExecutionEvent.Type.SessionStarted, session);
+        assertEquals(-1, repository.getProjectDuration(session, project, compile));
+        repository.projectTaskSegmentStarted(session, project, compile);
+        fire(ExecutionEvent.Type.ProjectStarted, session);
+        fire(ExecutionEvent.Type.MojoStarted, session);
+        fire(ExecutionEvent.Type.MojoSucceeded, session);
+        fire(ExecutionEvent.Type.ProjectSucceeded, session);
+        repository.projectTaskSegmentStarted(session, project, install);
+        fire(ExecutionEvent.Type.ProjectStarted, session);
+        fire(ExecutionEvent.Type.ProjectFailed, session);
+        fire(ExecutionEvent.Type.SessionEnded, session);
+
+        Properties properties = loadBuildTimingsFile();
+        assertTrue(properties.containsKey("org.apache:module-a/compile"));
+        assertTrue(properties.containsKey("org.apache:module-a/compile/maven-compiler-plugin:compile@default-compile"));
+        assertTrue(properties.containsKey("org.apache:module-a/clean,install"));
+
+        MavenSession nextSession = newSession();
+        fire(ExecutionEvent.Type.SessionStarted, nextSession);
+        assertEquals(
+                Long.parseLong(properties.getProperty("org.apache:module-a/compile")),
+                repository.getProjectDuration(nextSession, project, compile));
+        assertEquals(-1, repository.getProjectDuration(nextSession, project, stage));
+    }
+
+    @Test
+    void timingsAreKeyedByTaskSegmentNotByBuildCount() throws Exception {
+        // the project is not part of the aggregating segment, so it is built in the first and the third segment only
+        MavenSession session = newSession();
+        fire(ExecutionEvent.Type.SessionStarted, session);
+        repository.projectTaskSegmentStarted(session, project, compile);
+        fire(ExecutionEvent.Type.ProjectStarted, session);
+        fire(ExecutionEvent.Type.ProjectSucceeded, session);
+        repository.projectTaskSegmentStarted(session, project, install);
+        fire(ExecutionEvent.Type.ProjectStarted, session);
+        fire(ExecutionEvent.Type.ProjectSucceeded, session);
+        fire(ExecutionEvent.Type.SessionEnded, session);
+
+        Properties properties = loadBuildTimingsFile();
+        assertEquals(2, properties.size());
+
+        MavenSession nextSession = newSession();
+        fire(ExecutionEvent.Type.SessionStarted, nextSession);
+        assertEquals(
+                Long.parseLong(properties.getProperty("org.apache:module-a/clean,install")),
+                repository.getProjectDuration(nextSession, project, install));
+        assertEquals(-1, repository.getProjectDuration(nextSession, project, stage));
+    }
+
+    @Test
+    void timingsOfRemovedProjectsAndPreviousTasksAreDropped() throws Exception {
+        Properties previous = new Properties();
+        previous.setProperty("org.apache:module-a/package", "10");
+        previous.setProperty("org.apache:module-a/package/maven-jar-plugin:jar@default-jar", "5");
+        previous.setProperty("org.apache:module-b/compile", "20");
+        previous.setProperty("org.apache:removed/compile", "30");
+        try (Writer writer = Files.newBufferedWriter(buildDirectory.resolve("build-timings.properties"))) {
+            previous.store(writer, null);
+        }
+        MavenProject other = new MavenProject();
+        other.setGroupId("org.apache");
+        other.setArtifactId("module-b");
+
+        MavenSession session = newSession();
+        session.setAllProjects(Arrays.asList(project, other));
+        fire(ExecutionEvent.Type.SessionStarted, session);
+        repository.projectTaskSegmentStarted(session, project, compile);
+        fire(ExecutionEvent.Type.ProjectStarted, session);
+        fire(ExecutionEvent.Type.ProjectSucceeded, session);
+        fire(ExecutionEvent.Type.SessionEnded, session);
+
+        // module-b was not built and keeps its timings
+        Properties properties = loadBuildTimingsFile();
+        assertEquals(2, properties.size());
+        assertTrue(properties.containsKey("org.apache:module-a/compile"));
+        assertEquals("20", properties.getProperty("org.apache:module-b/compile"));
+    }
+
+    @Test
+    void nothingIsRecordedWhenDisabled() {
+        repositorySession.setConfigProperty("maven.build.timings", null);
+        MavenSession session = newSession();
+        fire(ExecutionEvent.Type.SessionStarted, session);
+        repository.projectTaskSegmentStarted(session, project, compile);
+        fire(ExecutionEvent.Type.ProjectStarted, session);
+        fire(ExecutionEvent.Type.ProjectSucceeded, session);
+        fire(ExecutionEvent.Type.SessionEnded, session);
+
+        assertFalse(Files.exists(buildDirectory.resolve("build-timings.properties")));
+        assertEquals(-1, repository.getProjectDuration(session, project, compile));
+    }
+
+    private Properties loadBuildTimingsFile() throws Exception {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(buildDirectory.resolve("build-timings.properties"))) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private MavenSession newSession() {
+        repositorySession.setData(new DefaultSessionData());
+        MavenSession session = new MavenSession(
+                null, repositorySession, new DefaultMavenExecutionRequest(), new DefaultMavenExecutionResult());
+        session.setAllProjects(Collections.singletonList(project));
+        return session;
+    }
+
+    private void fire(ExecutionEvent.Type type, MavenSession session) {
+        ExecutionEvent event = mock(ExecutionEvent.class);
+        when(event.getType()).thenReturn(type);
+        when(event.getSession()).thenReturn(session);
+        when(event.getProject()).thenReturn(project);
+        when(event.getMojoExecution()).thenReturn(mojoExecution);
+        repository.onEvent(event);
+    }
+}
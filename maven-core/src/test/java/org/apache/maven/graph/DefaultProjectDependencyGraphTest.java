@@ -19,6 +19,7 @@
 package org.apache.maven.graph;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.apache.maven.execution.ProjectDependencyGraph;
@@ -29,6 +30,8 @@
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  */
@@ -129,6 +132,32 @@ void testGetUpstreamProjects() throws CycleDetectedException, DuplicateProjectEx
         assertEquals(aProject, downstreamProjects.get(0));
     }
 
+    @Test
+    void testFilteredGraphKeepsReactorOrder() throws CycleDetectedException, DuplicateProjectException {
+        final ProjectDependencyGraph graph = new FilteredProjectDependencyGraph(
+                new DefaultProjectDependencyGraph(Arrays.asList(depender1, depender4, depender2, depender3, aProject)),
+                Arrays.asList(depender4, aProject, depender3));
+
+        assertEquals(Arrays.asList(aProject, depender3, depender4), graph.getSortedProjects());
+        assertEquals(Arrays.asList(depender3, depender4), graph.getDownstreamProjects(aProject, true));
+        assertEquals(Arrays.asList(aProject, depender3), graph.getUpstreamProjects(depender4, false));
+        assertThrows(UnsupportedOperationException.class, () -> graph.getDownstreamProjects(aProject, true)
+                .add(depender1));
+    }
+
+    @Test
+    void testTransitiveUpstreamProjectsAreCachedAndImmutable()
+            throws CycleDetectedException, DuplicateProjectException {
+        final ProjectDependencyGraph graph = new DefaultProjectDependencyGraph(
+                Arrays.asList(depender1, transitiveOnly, depender2, depender3, aProject));
+
+        final List<MavenProject> upstreamProjects = graph.getUpstreamProjects(transitiveOnly, true);
+        assertEquals(Arrays.asList(aProject, depender3), upstreamProjects);
+        assertEquals(Collections.singletonList(depender3), graph.getUpstreamProjects(transitiveOnly, false));
+        assertSame(upstreamProjects, graph.getUpstreamProjects(transitiveOnly, true));
+        assertThrows(UnsupportedOperationException.class, () -> upstreamProjects.add(depender1));
+    }
+
     private ProjectDependencyGraph threeProjectsDependingOnASingle()
             throws CycleDetectedException, DuplicateProjectException {
         return new DefaultProjectDependencyGraph(Arrays.asList(depender1, depender2, depender3, aProject));
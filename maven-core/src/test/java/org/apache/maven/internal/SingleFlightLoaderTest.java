@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightLoaderTest {
+
+    @Test
+    void testConcurrentLoadsOfSameKey() throws Exception {
+        Map<String, Object> cache = new ConcurrentHashMap<>();
+        SingleFlightLoader<String, Object> loader = new SingleFlightLoader<>(cache);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Object value = new Object();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> first = executor.submit(() -> loader.get("key", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return value;
+            }));
+            loading.await();
+
+            // another key is not blocked by the pending load
+            assertEquals("other", loader.get("other", () -> "other"));
+
+            Future<Object> second = executor.submit(() -> loader.get("key", () -> {
+                loads.incrementAndGet();
+                return new Object();
+            }));
+            release.countDown();
+
+            assertSame(value, first.get(10, TimeUnit.SECONDS));
+            assertSame(value, second.get(10, TimeUnit.SECONDS));
+            assertEquals(1, loads.get());
+            assertSame(value, cache.get("key"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testFailuresAreNotCached() throws Exception {
+        Map<String, Object> cache = new ConcurrentHashMap<>();
+        SingleFlightLoader<String, Object> loader = new SingleFlightLoader<>(cache);
+
+        assertThrows(
+                IOException.class,
+                () -> loader.get("key", () -> {
+                    throw new IOException("failed");
+                }));
+        assertFalse(cache.containsKey("key"));
+
+        assertEquals("loaded", loader.get("key", () -> "loaded"));
+    }
+
+    @Test
+    void testLoadedValuesAreStoredThroughStore() throws Exception {
+        Map<String, Object> cache = new ConcurrentHashMap<>();
+        SingleFlightLoader<String, Object> loader = new SingleFlightLoader<>(cache::get, (key, value) -> {
+            Object stored = "stored " + value;
+            cache.put(key, stored);
+            return stored;
+        });
+
+        assertEquals("stored loaded", loader.get("key", () -> "loaded"));
+        assertEquals("stored loaded", loader.get("key", () -> "reloaded"));
+        assertEquals("stored loaded", cache.get("key"));
+    }
+}
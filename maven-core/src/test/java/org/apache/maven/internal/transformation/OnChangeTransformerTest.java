@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.internal.transformation;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OnChangeTransformerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testSourceIsOnlyHashedAndTransformedWhenChanged() throws Exception {
+        Path source = tempDir.resolve("pom.xml");
+        Path target = tempDir.resolve("consumer.pom");
+        Files.write(source, "<project/>".getBytes(StandardCharsets.UTF_8));
+        AtomicInteger hashed = new AtomicInteger();
+        AtomicInteger transformed = new AtomicInteger();
+        OnChangeTransformer transformer = new OnChangeTransformer(
+                () -> source,
+                target,
+                p -> {
+                    hashed.incrementAndGet();
+                    try {
+                        return new String(Files.readAllBytes(p), StandardCharsets.UTF_8);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                },
+                (s, t) -> {
+                    transformed.incrementAndGet();
+                    try {
+                        Files.copy(s, t, StandardCopyOption.REPLACE_EXISTING);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+
+        assertEquals(target, transformer.get());
+        assertEquals(target, transformer.get());
+        assertEquals(1, hashed.get());
+        assertEquals(1, transformed.get());
+
+        // touching the source re-hashes it, but the unchanged content is not transformed again
+        Files.setLastModifiedTime(
+                source, FileTime.fromMillis(Files.getLastModifiedTime(source).toMillis() + 10_000L));
+        assertEquals(target, transformer.get());
+        assertEquals(2, hashed.get());
+        assertEquals(1, transformed.get());
+
+        Files.write(source, "<project></project>".getBytes(StandardCharsets.UTF_8));
+        assertEquals(target, transformer.get());
+        assertEquals(3, hashed.get());
+        assertEquals(2, transformed.get());
+
+        Files.delete(source);
+        assertEquals(target, transformer.get());
+        assertFalse(Files.exists(target));
+    }
+
+    @Test
+    void testNullSource() {
+        OnChangeTransformer transformer =
+                new OnChangeTransformer(() -> null, tempDir.resolve("consumer.pom"), p -> "", (s, t) -> {});
+
+        assertNull(transformer.get());
+    }
+}
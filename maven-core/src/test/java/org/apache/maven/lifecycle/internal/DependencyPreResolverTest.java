@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import javax.inject.Inject;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.maven.AbstractCoreMavenComponentTestCase;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.graph.DefaultProjectDependencyGraph;
+import org.apache.maven.lifecycle.MavenExecutionPlan;
+import org.apache.maven.plugin.MojoExecution;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.artifact.ProjectArtifactsCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class DependencyPreResolverTest extends AbstractCoreMavenComponentTestCase {
+    @Inject
+    private MojoExecutor mojoExecutor;
+
+    @Inject
+    private LifecycleDependencyResolver resolver;
+
+    @Inject
+    private ProjectArtifactFactory artifactFactory;
+
+    @Inject
+    private ProjectArtifactsCache projectArtifactsCache;
+
+    private final LifecycleExecutionPlanCalculator calculator = mock(LifecycleExecutionPlanCalculator.class);
+
+    private final TaskSegment taskSegment = new TaskSegment(false, new LifecycleTask("compile"));
+
+    private DependencyPreResolver preResolver;
+
+    private MavenSession session;
+
+    @Override
+    protected String getProjectsDirectory() {
+        return null;
+    }
+
+    @BeforeEach
+    void setUpSession() throws Exception {
+        preResolver =
+                new DependencyPreResolver(calculator, mojoExecutor, resolver, artifactFactory, projectArtifactsCache);
+        projectArtifactsCache.flush();
+
+        session = createMavenSession(
+                new File("src/test/projects/lifecycle-dependency-resolver/pom.xml"), new Properties(), true);
+        session.setProjectDependencyGraph(new DefaultProjectDependencyGraph(session.getProjects()));
+        session.getRequest().setDegreeOfConcurrency(2);
+        session.getUserProperties().setProperty("maven.experimental.dependencyPreResolution", "true");
+    }
+
+    @Test
+    void testPreResolvedDependenciesAreHandedOverToTheBuild() throws Exception {
+        MavenProject lib = session.getProjects().get(1);
+        MavenProject war = session.getProjects().get(2);
+        CountDownLatch started = new CountDownLatch(2);
+        MavenExecutionPlan plan = planRequiring("compile");
+        when(calculator.calculateExecutionPlan(any(), any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            return plan;
+        });
+
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        try {
+            // as in a build, the pre-resolution threads inherit the realm of the core
+            Thread.currentThread().setContextClassLoader(getContainer().getContainerRealm());
+            preResolver.start(session, projectBuilds());
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            preResolver.awaitPreResolution(session, lib);
+            preResolver.awaitPreResolution(session, war);
+        } finally {
+            preResolver.stop(session);
+            Thread.currentThread().setContextClassLoader(tccl);
+        }
+
+        // the war depends on the lib, which cannot be resolved before it is built, so only its external
+        // dependencies are resolved and nothing is handed over
+        verify(calculator).calculateExecutionPlan(any(), eq(war), any());
+        assertNull(war.getDependencyArtifacts());
+
+        assertNotNull(lib.getDependencyArtifacts());
+        // the scopes required by a mojo requiring compile resolution
+        Collection<String> scopes = Arrays.asList("compile", "provided", "system");
+        ProjectArtifactsCache.CacheRecord record = projectArtifactsCache.get(projectArtifactsCache.createKey(
+                lib, Collections.emptySet(), scopes, false, session.getRepositorySession()));
+        assertNotNull(record);
+        assertSame(
+                record.getArtifacts(),
+                resolver.resolveProjectArtifacts(
+                        lib, Collections.emptySet(), scopes, session, false, Collections.emptySet()));
+    }
+
+    @Test
+    void testNothingIsResolvedForPlansNotRequiringResolution() throws Exception {
+        MavenProject lib = session.getProjects().get(1);
+        CountDownLatch libStarted = new CountDownLatch(1);
+        MavenExecutionPlan plan = planRequiring(null);
+        when(calculator.calculateExecutionPlan(any(), any(), any())).thenReturn(plan);
+        when(calculator.calculateExecutionPlan(any(), eq(lib), any())).thenAnswer(invocation -> {
+            libStarted.countDown();
+            return plan;
+        });
+
+        ClassLoader tccl = Thread.currentThread().getContextClassLoader();
+        try {
+            // as in a build, the pre-resolution threads inherit the realm of the core
+            Thread.currentThread().setContextClassLoader(getContainer().getContainerRealm());
+            preResolver.start(session, projectBuilds());
+            assertTrue(libStarted.await(10, TimeUnit.SECONDS));
+
+            preResolver.awaitPreResolution(session, lib);
+        } finally {
+            preResolver.stop(session);
+            Thread.currentThread().setContextClassLoader(tccl);
+        }
+
+        assertNull(lib.getDependencyArtifacts());
+    }
+
+    @Test
+    void testNothingIsPreResolvedWithASingleThread() throws Exception {
+        session.getRequest().setDegreeOfConcurrency(1);
+
+        try {
+            preResolver.start(session, projectBuilds());
+            preResolver.awaitPreResolution(session, session.getProjects().get(1));
+        } finally {
+            preResolver.stop(session);
+        }
+
+        verifyNoInteractions(calculator);
+    }
+
+    private ProjectBuildList projectBuilds() {
+        List<ProjectSegment> projectBuilds = new ArrayList<>();
+        for (MavenProject project : session.getProjects()) {
+            projectBuilds.add(new ProjectSegment(project, taskSegment, session.clone()));
+        }
+        return new ProjectBuildList(projectBuilds);
+    }
+
+    private MavenExecutionPlan planRequiring(String dependencyResolution) {
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setGoal("compile");
+        mojoDescriptor.setDependencyResolutionRequired(dependencyResolution);
+        return new MavenExecutionPlan(
+                Collections.singletonList(new ExecutionPlanItem(new MojoExecution(mojoDescriptor))), null);
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.project.MavenProject;
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MojoExecutorProjectLockTest {
+
+    private final MojoExecutor executor = new MojoExecutor(null, null, null, null, null, null);
+
+    private final DefaultRepositorySystemSession repositorySession = new DefaultRepositorySystemSession();
+
+    private final MavenExecutionRequest request = new DefaultMavenExecutionRequest();
+
+    private final MavenProject parent = newProject("parent");
+
+    private final MavenProject a = newProject("a");
+
+    private final MavenProject b = newProject("b");
+
+    private final MavenProject c = newProject("c");
+
+    private final List<MavenProject> projects = Arrays.asList(parent, a, b, c);
+
+    private ExecutorService threads;
+
+    @BeforeEach
+    void setUp() {
+        request.setDegreeOfConcurrency(2);
+        parent.setCollectedProjects(Arrays.asList(a, b));
+        threads = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        threads.shutdownNow();
+    }
+
+    @Test
+    void testAggregatorLocksWholeReactor() throws Exception {
+        Properties userProperties = new Properties();
+
+        try (MojoExecutor.ProjectLock lock =
+                executor.new ProjectLock(newSession(parent, userProperties), newMojo(true))) {
+            Future<?> unrelated = lockInOtherThread(c, userProperties);
+            assertThrows(TimeoutException.class, () -> unrelated.get(200, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    @Test
+    void testScopedAggregatorLocksOnlyAggregatedProjects() throws Exception {
+        Properties userProperties = new Properties();
+        userProperties.setProperty("maven.experimental.scopedAggregatorLocks", "true");
+
+        Future<?> aggregated;
+        try (MojoExecutor.ProjectLock lock =
+                executor.new ProjectLock(newSession(parent, userProperties), newMojo(true))) {
+            assertNull(lockInOtherThread(c, userProperties).get(10, TimeUnit.SECONDS));
+
+            aggregated = lockInOtherThread(b, userProperties);
+            assertThrows(TimeoutException.class, () -> aggregated.get(200, TimeUnit.MILLISECONDS));
+        }
+        assertNull(aggregated.get(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testScopedAggregatorLocksIsResolvedOncePerSession() throws Exception {
+        Properties userProperties = new Properties();
+        userProperties.setProperty("maven.experimental.scopedAggregatorLocks", "true");
+        MavenSession session = newSession(parent, userProperties);
+
+        for (int i = 0; i < 3; i++) {
+            try (MojoExecutor.ProjectLock lock = executor.new ProjectLock(session, newMojo(true))) {
+                assertNull(lockInOtherThread(c, userProperties).get(10, TimeUnit.SECONDS));
+            }
+        }
+        verify(session, times(1)).getUserProperties();
+    }
+
+    private Future<?> lockInOtherThread(MavenProject project, Properties userProperties) {
+        MavenSession session = newSession(project, userProperties);
+        return threads.submit(() -> {
+            try (MojoExecutor.ProjectLock lock = executor.new ProjectLock(session, newMojo(false))) {
+                return null;
+            }
+        });
+    }
+
+    private MavenSession newSession(MavenProject currentProject, Properties userProperties) {
+        MavenSession session = mock(MavenSession.class);
+        when(session.getRequest()).thenReturn(request);
+        when(session.getRepositorySession()).thenReturn(repositorySession);
+        when(session.getUserProperties()).thenReturn(userProperties);
+        when(session.getCurrentProject()).thenReturn(currentProject);
+        when(session.getProjects()).thenReturn(projects);
+        return session;
+    }
+
+    private static MojoDescriptor newMojo(boolean aggregator) {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId("org.apache.maven.its.plugins");
+        pluginDescriptor.setArtifactId("maven-it-plugin");
+        pluginDescriptor.setVersion("1.0");
+        MojoDescriptor mojoDescriptor = new MojoDescriptor();
+        mojoDescriptor.setPluginDescriptor(pluginDescriptor);
+        mojoDescriptor.setGoal(aggregator ? "aggregate" : "build");
+        mojoDescriptor.setAggregator(aggregator);
+        return mojoDescriptor;
+    }
+
+    private static MavenProject newProject(String artifactId) {
+        MavenProject project = new MavenProject();
+        project.setGroupId("org.apache.maven.its");
+        project.setArtifactId(artifactId);
+        project.setVersion("1.0");
+        project.setCollectedProjects(Collections.emptyList());
+        return project;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.lifecycle.internal.builder.multithreaded;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+import org.apache.maven.lifecycle.internal.ProjectBuildList;
+import org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub;
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.A;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.B;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.C;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.X;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Y;
+import static org.apache.maven.lifecycle.internal.stub.ProjectDependencyGraphStub.Z;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CriticalPathComparatorTest {
+
+    @Test
+    void testUnitCost() throws Exception {
+        CriticalPathComparator comparator = newComparator(p -> 1L);
+
+        assertEquals(3, comparator.getWeight(A));
+        assertEquals(2, comparator.getWeight(B));
+        assertEquals(2, comparator.getWeight(C));
+        assertEquals(1, comparator.getWeight(X));
+
+        // equal weights keep the reactor order
+        List<MavenProject> projects = new ArrayList<>(Arrays.asList(Z, Y, X, C, B, A));
+        projects.sort(comparator);
+        assertEquals(Arrays.asList(A, B, C, X, Y, Z), projects);
+    }
+
+    @Test
+    void testWeightedCost() throws Exception {
+        CriticalPathComparator comparator = newComparator(p -> p == Z ? 10L : 0L);
+
+        assertEquals(12, comparator.getWeight(A));
+        assertEquals(2, comparator.getWeight(B));
+        assertEquals(11, comparator.getWeight(C));
+
+        List<MavenProject> projects = new ArrayList<>(Arrays.asList(B, C, X, Y, Z));
+        projects.sort(comparator);
+        assertEquals(Arrays.asList(C, Z, B, X, Y), projects);
+    }
+
+    private static CriticalPathComparator newComparator(ToLongFunction<MavenProject> cost) throws Exception {
+        ProjectBuildList projectBuildList =
+                ProjectDependencyGraphStub.getProjectBuildList(ProjectDependencyGraphStub.getMavenSession());
+        return new CriticalPathComparator(projectBuildList, new ProjectDependencyGraphStub(), cost);
+    }
+}
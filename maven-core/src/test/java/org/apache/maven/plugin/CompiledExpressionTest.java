@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.model.Model;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.introspection.ReflectionValueExtractor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledExpressionTest {
+
+    @Test
+    void testPropertyPath() throws Exception {
+        MavenProject project = newProject();
+
+        assertTrue(CompiledExpression.compile("project.build.directory").isPropertyPath());
+        assertEquals("target", CompiledExpression.evaluate("project.build.directory", project));
+        assertEquals("target", CompiledExpression.evaluate("pom.build.directory", project));
+        assertSame(project.getModel(), CompiledExpression.evaluate("project.model", project));
+        assertNull(CompiledExpression.evaluate("project.build.unknown", project));
+        assertNull(CompiledExpression.evaluate("project.parent.artifactId", project));
+    }
+
+    @Test
+    void testSameResultsAsReflectionValueExtractor() throws Exception {
+        MavenProject project = newProject();
+
+        for (String expression : Arrays.asList(
+                "project.groupId",
+                "project.build.finalName",
+                "project.executionRoot",
+                "project.modules",
+                "project.modules[1]",
+                "project.model.build.directory",
+                "project.build.missing",
+                "project",
+                "project..build")) {
+            assertEquals(
+                    ReflectionValueExtractor.evaluate(expression, project),
+                    CompiledExpression.evaluate(expression, project),
+                    expression);
+        }
+    }
+
+    @Test
+    void testIndexedPropertiesAreNotCompiled() throws Exception {
+        assertFalse(CompiledExpression.compile("project.modules[0]").isPropertyPath());
+        assertFalse(CompiledExpression.compile("project").isPropertyPath());
+
+        assertEquals("b", CompiledExpression.evaluate("project.modules[1]", newProject()));
+    }
+
+    @Test
+    void testGetterOfNonPublicClassIsInvokedThroughInterface() throws Exception {
+        List<String> list = Arrays.asList("a", "b");
+
+        assertEquals(Boolean.FALSE, CompiledExpression.evaluate("list.empty", list));
+        assertEquals(
+                ReflectionValueExtractor.evaluate("list.class.name", list),
+                CompiledExpression.evaluate("list.class.name", list));
+    }
+
+    private static MavenProject newProject() {
+        Model model = new Model();
+        model.setGroupId("org.apache.maven.its");
+        model.setArtifactId("test");
+        model.setModules(Arrays.asList("a", "b"));
+        Build build = new Build();
+        build.setDirectory("target");
+        build.setFinalName("test-1.0");
+        model.setBuild(build);
+        return new MavenProject(model);
+    }
+}
@@ -301,6 +301,33 @@ private void assertResultShowNoError(List<ProjectBuildingResult> results) {
         }
     }
 
+    @Test
+    void testParallelModelBuildingKeepsResultOrder() throws Exception {
+        File pomFile = getProject("mng-3023");
+        MavenSession mavenSession = createMavenSession(null);
+        ProjectBuildingRequest configuration = new DefaultProjectBuildingRequest();
+        configuration.setRepositorySession(mavenSession.getRepositorySession());
+
+        List<ProjectBuildingResult> sequential =
+                projectBuilder.build(Collections.singletonList(pomFile), true, configuration);
+
+        Properties userProperties = new Properties();
+        userProperties.setProperty("maven.experimental.parallelModelBuilding", "true");
+        configuration.setUserProperties(userProperties);
+        configuration.setDegreeOfConcurrency(4);
+        List<ProjectBuildingResult> parallel =
+                projectBuilder.build(Collections.singletonList(pomFile), true, configuration);
+
+        assertResultShowNoError(parallel);
+        assertEquals(3, parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getProjectId(), parallel.get(i).getProjectId());
+        }
+        MavenProject root = parallel.get(2).getProject();
+        assertTrue(root.isExecutionRoot());
+        assertEquals(2, root.getCollectedProjects().size());
+    }
+
     @Test
     void testBuildProperties() throws Exception {
         File file = new File(getProject("MNG-6716").getParentFile(), "project/pom.xml");
@@ -39,6 +39,30 @@ public static Feature buildConsumer(Map<String, String> userProperties) {
         return new Feature(userProperties, "maven.experimental.buildconsumer", "true");
     }
 
+    public static Feature parallelModelBuilding(Properties userProperties) {
+        return parallelModelBuilding(toMap(userProperties));
+    }
+
+    public static Feature parallelModelBuilding(Map<String, String> userProperties) {
+        return new Feature(userProperties, "maven.experimental.parallelModelBuilding", "false");
+    }
+
+    public static Feature dependencyPreResolution(Properties userProperties) {
+        return dependencyPreResolution(toMap(userProperties));
+    }
+
+    public static Feature dependencyPreResolution(Map<String, String> userProperties) {
+        return new Feature(userProperties, "maven.experimental.dependencyPreResolution", "false");
+    }
+
+    public static Feature scopedAggregatorLocks(Properties userProperties) {
+        return scopedAggregatorLocks(toMap(userProperties));
+    }
+
+    public static Feature scopedAggregatorLocks(Map<String, String> userProperties) {
+        return new Feature(userProperties, "maven.experimental.scopedAggregatorLocks", "false");
+    }
+
     private static Map<String, String> toMap(Properties properties) {
         return properties.entrySet().stream()
                 .collect(Collectors.toMap(
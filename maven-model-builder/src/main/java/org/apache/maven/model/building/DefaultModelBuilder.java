@@ -30,7 +30,6 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -1986,7 +1985,9 @@ public Source getSource(String groupId, String artifactId) {
 
         public void putSource(String groupId, String artifactId, Source source) {
             mappedSources
-                    .computeIfAbsent(new DefaultTransformerContext.GAKey(groupId, artifactId), k -> new HashSet<>())
+                    .computeIfAbsent(
+                            new DefaultTransformerContext.GAKey(groupId, artifactId),
+                            k -> ConcurrentHashMap.newKeySet())
                     .add(source);
         }
     }
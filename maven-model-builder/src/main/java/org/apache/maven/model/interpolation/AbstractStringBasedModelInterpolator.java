@@ -214,6 +214,30 @@ protected List<? extends InterpolationPostProcessor> createPostProcessors(
         return processors;
     }
 
+    /**
+     * Gets the value of an expression that is answered by the user properties of the request alone, without
+     * interpolation. Such an expression is neither answered by a model specific value source that takes precedence
+     * over the user properties nor rewritten by a post-processor, so its value is the same for all models of the
+     * request.
+     *
+     * @param expression the expression, without its delimiters
+     * @param config the model building request
+     * @return the value, or {@code null} if the expression may depend on the model being interpolated
+     * @since 4.0.0
+     */
+    protected String getSessionValue(String expression, ModelBuildingRequest config) {
+        if (expression.startsWith(PREFIX_PROJECT)
+                || expression.startsWith(PREFIX_POM)
+                || "basedir".equals(expression)
+                || "build.timestamp".equals(expression)
+                || "maven.build.timestamp".equals(expression)
+                || TRANSLATED_PATH_EXPRESSIONS.contains(expression)) {
+            return null;
+        }
+        String value = config.getUserProperties().getProperty(expression);
+        return value != null && !value.contains("${") ? value : null;
+    }
+
     protected RecursionInterceptor createRecursionInterceptor(ModelBuildingRequest config) {
         return new PrefixAwareRecursionInterceptor(getProjectPrefixes(config));
     }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.model.interpolation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.codehaus.plexus.interpolation.InterpolationException;
+
+/**
+ * A string split once into its literal parts and its <code>${...}</code> expressions, so it can be interpolated
+ * repeatedly without being scanned again. The split follows the one of
+ * {@link org.codehaus.plexus.interpolation.StringSearchInterpolator}: an expression runs from <code>${</code> to the
+ * next <code>}</code>, and an unterminated expression is kept as a literal.
+ *
+ * @since 4.0.0
+ */
+final class InterpolationTemplate {
+
+    /**
+     * Resolves a single expression of a template.
+     */
+    interface Resolver {
+        /**
+         * @param expression the whole expression, including its <code>${</code> and <code>}</code> delimiters
+         * @return the interpolated expression, never {@code null}
+         */
+        String resolve(String expression) throws InterpolationException;
+    }
+
+    private static final String START = "${";
+
+    private static final String END = "}";
+
+    /**
+     * Alternating literals and expressions, starting and ending with a (possibly empty) literal.
+     */
+    private final String[] segments;
+
+    private InterpolationTemplate(String[] segments) {
+        this.segments = segments;
+    }
+
+    static InterpolationTemplate parse(String value) {
+        List<String> segments = new ArrayList<>();
+        int literalStart = 0;
+        int start;
+        while ((start = value.indexOf(START, literalStart)) >= 0) {
+            int end = value.indexOf(END, start + 1);
+            if (end < 0) {
+                break;
+            }
+            segments.add(value.substring(literalStart, start));
+            segments.add(value.substring(start, end + END.length()));
+            literalStart = end + END.length();
+        }
+        segments.add(value.substring(literalStart));
+        return new InterpolationTemplate(segments.toArray(new String[0]));
+    }
+
+    String interpolate(Resolver resolver) throws InterpolationException {
+        if (segments.length == 3 && segments[0].isEmpty() && segments[2].isEmpty()) {
+            return resolver.resolve(segments[1]);
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            sb.append((i & 1) == 0 ? segments[i] : resolver.resolve(segments[i]));
+        }
+        return sb.toString();
+    }
+}
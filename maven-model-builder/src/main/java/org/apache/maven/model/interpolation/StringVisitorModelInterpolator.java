@@ -26,6 +26,7 @@
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.api.model.Model;
 import org.apache.maven.model.building.ModelBuildingRequest;
@@ -51,6 +52,16 @@
 @Named
 @Singleton
 public class StringVisitorModelInterpolator extends AbstractStringBasedModelInterpolator {
+    /**
+     * The maximum number of parsed templates to keep, beyond which values are parsed on every use.
+     */
+    private static final int MAX_TEMPLATES = 16384;
+
+    /**
+     * The parsed templates of the interpolated values, shared by all models.
+     */
+    private final Map<String, InterpolationTemplate> templates = new ConcurrentHashMap<>();
+
     @Inject
     public StringVisitorModelInterpolator(
             PathTranslator pathTranslator, UrlNormalizer urlNormalizer, RootLocator rootLocator) {
@@ -87,12 +98,20 @@ private InnerInterpolator createInterpolator(
             interpolator.addPostProcessor(postProcessor);
         }
         final RecursionInterceptor recursionInterceptor = createRecursionInterceptor(config);
+        final InterpolationTemplate.Resolver resolver = expression -> {
+            String name = expression.substring(2, expression.length() - 1);
+            if (name.startsWith(".")) {
+                name = name.substring(1);
+            }
+            String v = getSessionValue(name, config);
+            return v != null ? v : interpolator.interpolate(expression, recursionInterceptor);
+        };
         return value -> {
             if (value != null && value.contains("${")) {
                 String c = cache.get(value);
                 if (c == null) {
                     try {
-                        c = interpolator.interpolate(value, recursionInterceptor);
+                        c = getTemplate(value).interpolate(resolver);
                     } catch (InterpolationException e) {
                         problems.add(new ModelProblemCollectorRequest(Severity.ERROR, Version.BASE)
                                 .setMessage(e.getMessage())
@@ -105,4 +124,15 @@ private InnerInterpolator createInterpolator(
             return value;
         };
     }
+
+    private InterpolationTemplate getTemplate(String value) {
+        InterpolationTemplate template = templates.get(value);
+        if (template == null) {
+            template = InterpolationTemplate.parse(value);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.putIfAbsent(value, template);
+            }
+        }
+        return template;
+    }
 }
@@ -48,6 +48,18 @@
 @Named
 @Singleton
 public class DefaultModelReader implements ModelReader {
+    /**
+     * The input factory shared by all reads: it is thread-safe once configured, and reusing it also reuses its symbol
+     * table.
+     */
+    private static final XMLInputFactory FACTORY;
+
+    static {
+        XMLInputFactory factory = new com.ctc.wstx.stax.WstxInputFactory();
+        factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
+        FACTORY = factory;
+    }
+
     private final ModelSourceTransformer transformer;
 
     @Inject
@@ -103,9 +115,7 @@ private TransformerContext getTransformerContext(Map<String, ?> options) {
 
     private Model read(InputStream input, Path pomFile, Map<String, ?> options) throws IOException {
         try {
-            XMLInputFactory factory = new com.ctc.wstx.stax.WstxInputFactory();
-            factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-            XMLStreamReader parser = factory.createXMLStreamReader(input);
+            XMLStreamReader parser = FACTORY.createXMLStreamReader(input);
 
             TransformerContext context = getTransformerContext(options);
             XMLStreamReader transformingParser =
@@ -134,9 +144,7 @@ private Model read(InputStream input, Path pomFile, Map<String, ?> options) thro
 
     private Model read(Reader reader, Path pomFile, Map<String, ?> options) throws IOException {
         try {
-            XMLInputFactory factory = new com.ctc.wstx.stax.WstxInputFactory();
-            factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, false);
-            XMLStreamReader parser = factory.createXMLStreamReader(reader);
+            XMLStreamReader parser = FACTORY.createXMLStreamReader(reader);
 
             TransformerContext context = getTransformerContext(options);
             XMLStreamReader transformingParser =
@@ -18,8 +18,48 @@
  */
 package org.apache.maven.model.interpolation;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.apache.maven.api.model.Model;
+import org.apache.maven.model.building.DefaultModelBuildingRequest;
+import org.apache.maven.model.building.ModelBuildingRequest;
+import org.apache.maven.model.building.SimpleProblemCollector;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 public class StringVisitorModelInterpolatorTest extends AbstractModelInterpolatorTest {
     protected ModelInterpolator createInterpolator() {
         return new StringVisitorModelInterpolator(null, null, bd -> true);
     }
+
+    @Test
+    void testTemplatesAreSharedBetweenModels() {
+        Properties userProperties = new Properties();
+        userProperties.setProperty("user", "fromUser");
+        userProperties.setProperty("nested", "${model}");
+        ModelBuildingRequest request = new DefaultModelBuildingRequest().setUserProperties(userProperties);
+        ModelInterpolator interpolator = createInterpolator();
+
+        for (String version : new String[] {"1", "2"}) {
+            Map<String, String> properties = new HashMap<>();
+            properties.put("model", "m" + version);
+            properties.put("user", "fromModel");
+            Model model = Model.newBuilder()
+                    .version(version)
+                    .name("${user}-${project.version}/${model}-${nested}-${missing} ${unterminated")
+                    .properties(properties)
+                    .build();
+
+            SimpleProblemCollector collector = new SimpleProblemCollector();
+            Model out = interpolator.interpolateModel(model, null, request, collector);
+
+            assertEquals(0, collector.getErrors().size());
+            assertEquals(
+                    "fromUser-" + version + "/m" + version + "-m" + version + "-${missing} ${unterminated",
+                    out.getName());
+        }
+    }
 }
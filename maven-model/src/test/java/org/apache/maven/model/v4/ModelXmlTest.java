@@ -26,10 +26,15 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import org.apache.maven.api.model.InputLocation;
+import org.apache.maven.api.model.InputSource;
 import org.apache.maven.api.model.Model;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class ModelXmlTest {
 
@@ -50,6 +55,43 @@ void testXmlRoundtripWithProperties() throws Exception {
         }
     }
 
+    @Test
+    void testCoordinatesAreDeduplicated() throws Exception {
+        String xml = "<project><groupId>org.apache.maven</groupId><dependencies>"
+                + "<dependency><groupId>org.apache.maven</groupId><artifactId>maven-core</artifactId>"
+                + "<version>4.0.0</version><scope>test</scope></dependency>"
+                + "</dependencies></project>";
+
+        Model first = fromXml(xml);
+        Model second = fromXml(xml);
+
+        assertSame(first.getGroupId(), second.getGroupId());
+        assertSame(first.getGroupId(), first.getDependencies().get(0).getGroupId());
+        assertSame(
+                first.getDependencies().get(0).getScope(),
+                second.getDependencies().get(0).getScope());
+    }
+
+    @Test
+    void testLocations() throws Exception {
+        String xml =
+                "<project>\n  <groupId>org.apache.maven</groupId>\n  <artifactId>maven-core</artifactId>\n</project>";
+        InputSource source = new InputSource("org.apache.maven:maven-core", null);
+
+        Model model = new MavenStaxReader().read(new StringReader(xml), true, source);
+
+        InputLocation location = model.getLocation("artifactId");
+        assertNotNull(location);
+        assertEquals(3, location.getLineNumber());
+        assertSame(source, location.getSource());
+        assertNull(model.getLocation("version"));
+
+        // an unrelated change keeps the locations
+        Model changed = model.withDescription("description");
+        assertSame(location, changed.getLocation("artifactId"));
+        assertNull(changed.getLocation("description"));
+    }
+
     String toXml(Model model) throws IOException {
         StringWriter sw = new StringWriter();
         new MavenXpp3Writer().write(sw, model);
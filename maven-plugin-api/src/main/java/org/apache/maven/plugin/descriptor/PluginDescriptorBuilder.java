@@ -38,6 +38,12 @@
 /**
  */
 public class PluginDescriptorBuilder {
+    /**
+     * The input factory shared by all parses: it is thread-safe once configured, and reusing it also reuses its symbol
+     * table.
+     */
+    private static final WstxInputFactory FACTORY = new WstxInputFactory();
+
     public PluginDescriptor build(Reader reader) throws PlexusConfigurationException {
         return build(reader, null);
     }
@@ -375,7 +381,7 @@ public MojoDescriptor buildComponentDescriptor(PlexusConfiguration c, PluginDesc
 
     public PlexusConfiguration buildConfiguration(Reader configuration) throws PlexusConfigurationException {
         try {
-            XMLStreamReader reader = WstxInputFactory.newFactory().createXMLStreamReader(configuration);
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(configuration);
             return XmlPlexusConfiguration.toPlexusConfiguration(XmlNodeBuilder.build(reader, true, null));
         } catch (XMLStreamException e) {
             throw new PlexusConfigurationException(e.getMessage(), e);
@@ -384,7 +390,7 @@ public PlexusConfiguration buildConfiguration(Reader configuration) throws Plexu
 
     public PlexusConfiguration buildConfiguration(InputStream configuration) throws PlexusConfigurationException {
         try {
-            XMLStreamReader reader = WstxInputFactory.newFactory().createXMLStreamReader(configuration);
+            XMLStreamReader reader = FACTORY.createXMLStreamReader(configuration);
             return XmlPlexusConfiguration.toPlexusConfiguration(XmlNodeBuilder.build(reader, true, null));
         } catch (XMLStreamException e) {
             throw new PlexusConfigurationException(e.getMessage(), e);
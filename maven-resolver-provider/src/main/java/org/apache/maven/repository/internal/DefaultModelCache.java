@@ -18,42 +18,86 @@
  */
 package org.apache.maven.repository.internal;
 
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.maven.building.Source;
 import org.apache.maven.model.building.ModelCache;
 import org.eclipse.aether.RepositorySystemSession;
+import org.eclipse.aether.util.ConfigUtils;
 
 /**
  * A model builder cache backed by the repository system cache.
- *
+ * <p>
+ * The cache is unbounded unless {@code maven.modelCache.maxSize} is set to a positive number of entries, in which case
+ * the least recently used entries are evicted. Evicted entries are kept softly reachable unless
+ * {@code maven.modelCache.softReferences} is {@code false}.
+ * </p>
  */
 public class DefaultModelCache implements ModelCache {
 
     private static final String KEY = DefaultModelCache.class.getName();
 
-    private final Map<Object, Object> cache;
+    private static final String MAVEN_MODEL_CACHE_MAX_SIZE_KEY = "maven.modelCache.maxSize";
+
+    private static final String MAVEN_MODEL_CACHE_SOFT_REFERENCES_KEY = "maven.modelCache.softReferences";
+
+    private final ModelCacheStore cache;
 
     public static ModelCache newInstance(RepositorySystemSession session) {
-        Map<Object, Object> cache;
+        ModelCacheStore cache;
         if (session.getCache() == null) {
-            cache = new ConcurrentHashMap<>();
+            cache = newStore(session);
         } else {
-            cache = (Map) session.getCache().get(session, KEY);
+            cache = (ModelCacheStore) session.getCache().get(session, KEY);
             if (cache == null) {
-                cache = new ConcurrentHashMap<>();
+                cache = newStore(session);
                 session.getCache().put(session, KEY, cache);
             }
         }
         return new DefaultModelCache(cache);
     }
 
-    private DefaultModelCache(Map<Object, Object> cache) {
+    private static ModelCacheStore newStore(RepositorySystemSession session) {
+        return new ModelCacheStore(
+                ConfigUtils.getInteger(session, 0, MAVEN_MODEL_CACHE_MAX_SIZE_KEY),
+                ConfigUtils.getBoolean(session, true, MAVEN_MODEL_CACHE_SOFT_REFERENCES_KEY));
+    }
+
+    private DefaultModelCache(ModelCacheStore cache) {
         this.cache = cache;
     }
 
+    /**
+     * Gets the number of lookups that were answered by the cache, shared by all caches of the session.
+     *
+     * @return the number of cache hits
+     * @since 4.0.0
+     */
+    public long getHitCount() {
+        return cache.getHits();
+    }
+
+    /**
+     * Gets the number of lookups that were not answered by the cache, shared by all caches of the session.
+     *
+     * @return the number of cache misses
+     * @since 4.0.0
+     */
+    public long getMissCount() {
+        return cache.getMisses();
+    }
+
+    /**
+     * Gets the number of entries dropped because the cache reached its maximum size, shared by all caches of the
+     * session. Entries moved to the soft reference tier only count once the garbage collector has cleared them.
+     *
+     * @return the number of evicted entries
+     * @since 4.0.0
+     */
+    public long getEvictionCount() {
+        return cache.getEvictions();
+    }
+
     public Object get(Source path, String tag) {
         return get(new SourceCacheKey(path, tag));
     }
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.repository.internal;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The storage behind {@link DefaultModelCache}, shared by all model caches of a repository system session.
+ * <p>
+ * An unbounded store keeps every entry. A bounded store keeps at most {@code maxSize} entries strongly reachable.
+ * Lookups do not lock, they only stamp the entry with the time of its last access. When a put exceeds the maximum
+ * size, the least recently used entries are evicted, a sixteenth of the maximum size at a time so the scan for them
+ * is amortized over several puts. Evicted entries may be kept in a soft reference tier, so they survive until the JVM
+ * runs short of memory and are promoted back when requested again.
+ * </p>
+ *
+ * @since 4.0.0
+ */
+final class ModelCacheStore {
+
+    private static final int EVICTION_BATCH_DIVISOR = 16;
+
+    private final Map<Object, Object> entries;
+
+    private final Map<Object, Node> nodes;
+
+    private final Map<Object, SoftEntry> softEntries;
+
+    private final ReferenceQueue<Object> queue;
+
+    private final int maxSize;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final Object evictionLock = new Object();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param maxSize the maximum number of strongly reachable entries, a value below one means unbounded
+     * @param softReferences whether evicted entries should be kept softly reachable
+     */
+    ModelCacheStore(int maxSize, boolean softReferences) {
+        this.maxSize = maxSize;
+        if (maxSize > 0) {
+            this.entries = null;
+            this.nodes = new ConcurrentHashMap<>();
+            this.softEntries = softReferences ? new ConcurrentHashMap<>() : null;
+            this.queue = softReferences ? new ReferenceQueue<>() : null;
+        } else {
+            this.entries = new ConcurrentHashMap<>();
+            this.nodes = null;
+            this.softEntries = null;
+            this.queue = null;
+        }
+    }
+
+    Object get(Object key) {
+        Object value = nodes != null ? getBounded(key) : entries.get(key);
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    void put(Object key, Object value) {
+        if (nodes != null) {
+            expungeStaleEntries();
+            if (softEntries != null) {
+                softEntries.remove(key);
+            }
+            putBounded(key, value);
+        } else {
+            entries.put(key, value);
+        }
+    }
+
+    private Object getBounded(Object key) {
+        Node node = nodes.get(key);
+        if (node != null) {
+            node.lastAccess = clock.incrementAndGet();
+            return node.value;
+        }
+        if (softEntries == null) {
+            return null;
+        }
+        expungeStaleEntries();
+        SoftEntry entry = softEntries.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        Object value = entry.get();
+        if (value == null) {
+            evictions.increment();
+            return null;
+        }
+        putBounded(key, value);
+        return value;
+    }
+
+    private void putBounded(Object key, Object value) {
+        nodes.put(key, new Node(value, clock.incrementAndGet()));
+        if (nodes.size() > maxSize) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    private void evictLeastRecentlyUsed() {
+        synchronized (evictionLock) {
+            int excess = nodes.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            int count = Math.max(excess, maxSize / EVICTION_BATCH_DIVISOR);
+            // keeps the count least recently used entries, the most recently used of them at the head
+            PriorityQueue<Candidate> eldest = new PriorityQueue<>(
+                    count + 1,
+                    Comparator.comparingLong((Candidate c) -> c.lastAccess).reversed());
+            for (Map.Entry<Object, Node> entry : nodes.entrySet()) {
+                eldest.add(new Candidate(entry.getKey(), entry.getValue()));
+                if (eldest.size() > count) {
+                    eldest.poll();
+                }
+            }
+            for (Candidate candidate : eldest) {
+                Object key = candidate.key;
+                Node node = candidate.node;
+                if (nodes.remove(key, node)) {
+                    if (softEntries != null) {
+                        softEntries.put(key, new SoftEntry(key, node.value, queue));
+                    } else {
+                        evictions.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    private void expungeStaleEntries() {
+        if (queue == null) {
+            return;
+        }
+        for (Object ref; (ref = queue.poll()) != null; ) {
+            SoftEntry entry = (SoftEntry) ref;
+            if (softEntries.remove(entry.key, entry)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    /**
+     * @return the number of lookups that found an entry
+     */
+    long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of lookups that found no entry
+     */
+    long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of entries that were dropped from the store, either evicted without a soft reference tier or
+     *         cleared from the soft reference tier by the garbage collector
+     */
+    long getEvictions() {
+        return evictions.sum();
+    }
+
+    private static final class Node {
+
+        private final Object value;
+
+        private volatile long lastAccess;
+
+        Node(Object value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * An entry considered for eviction, with the time of its last access at the start of the scan.
+     */
+    private static final class Candidate {
+
+        private final Object key;
+
+        private final Node node;
+
+        private final long lastAccess;
+
+        Candidate(Object key, Node node) {
+            this.key = key;
+            this.node = node;
+            this.lastAccess = node.lastAccess;
+        }
+    }
+
+    private static final class SoftEntry extends SoftReference<Object> {
+
+        private final Object key;
+
+        SoftEntry(Object key, Object value, ReferenceQueue<Object> queue) {
+            super(value, queue);
+            this.key = key;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.repository.internal;
+
+import org.eclipse.aether.DefaultRepositorySystemSession;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class DefaultModelCacheTest {
+
+    @Test
+    void testLeastRecentlyUsedEntryIsEvicted() {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        session.setConfigProperty("maven.modelCache.maxSize", "2");
+        session.setConfigProperty("maven.modelCache.softReferences", "false");
+        DefaultModelCache cache = (DefaultModelCache) DefaultModelCache.newInstance(session);
+
+        Object a = new Object();
+        cache.put("g", "a", "1", "raw", a);
+        cache.put("g", "b", "1", "raw", new Object());
+        assertSame(a, cache.get("g", "a", "1", "raw"));
+        cache.put("g", "c", "1", "raw", new Object());
+
+        assertNull(cache.get("g", "b", "1", "raw"));
+        assertSame(a, cache.get("g", "a", "1", "raw"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void testEvictedEntryIsPromotedFromSoftReferences() {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        session.setConfigProperty("maven.modelCache.maxSize", "1");
+        DefaultModelCache cache = (DefaultModelCache) DefaultModelCache.newInstance(session);
+
+        Object a = new Object();
+        Object b = new Object();
+        cache.put("g", "a", "1", "raw", a);
+        cache.put("g", "b", "1", "raw", b);
+
+        assertSame(a, cache.get("g", "a", "1", "raw"));
+        assertSame(b, cache.get("g", "b", "1", "raw"));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(0, cache.getMissCount());
+        assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    void testEvictionRemovesLeastRecentlyUsedEntriesInBatches() {
+        DefaultRepositorySystemSession session = new DefaultRepositorySystemSession();
+        session.setConfigProperty("maven.modelCache.maxSize", "32");
+        session.setConfigProperty("maven.modelCache.softReferences", "false");
+        DefaultModelCache cache = (DefaultModelCache) DefaultModelCache.newInstance(session);
+
+        for (int i = 0; i < 32; i++) {
+            cache.put("g", "a", String.valueOf(i), "raw", i);
+        }
+        assertEquals(0, cache.get("g", "a", "0", "raw"));
+        cache.put("g", "a", "32", "raw", 32);
+
+        assertEquals(2, cache.getEvictionCount());
+        assertEquals(0, cache.get("g", "a", "0", "raw"));
+        assertNull(cache.get("g", "a", "1", "raw"));
+        assertNull(cache.get("g", "a", "2", "raw"));
+        assertEquals(3, cache.get("g", "a", "3", "raw"));
+        assertEquals(32, cache.get("g", "a", "32", "raw"));
+    }
+
+    @Test
+    void testUnboundedByDefault() {
+        DefaultModelCache cache =
+                (DefaultModelCache) DefaultModelCache.newInstance(new DefaultRepositorySystemSession());
+
+        for (int i = 0; i < 100; i++) {
+            cache.put("g", "a", String.valueOf(i), "raw", i);
+        }
+
+        assertEquals(0, cache.get("g", "a", "0", "raw"));
+        assertEquals(0, cache.getEvictionCount());
+    }
+}
@@ -22,6 +22,7 @@
 import java.io.Serializable;
 import java.io.StringWriter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -29,10 +30,6 @@
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.maven.api.xml.XmlNode;
 import org.codehaus.plexus.util.xml.PrettyPrintXMLWriter;
@@ -46,6 +43,11 @@
 public class XmlNodeImpl implements Serializable, XmlNode {
     private static final long serialVersionUID = 2567894443061173996L;
 
+    /**
+     * The number of children from which lookups by name use an index instead of scanning the children.
+     */
+    private static final int CHILDREN_INDEX_THRESHOLD = 8;
+
     protected final String name;
 
     protected final String value;
@@ -56,6 +58,16 @@ public class XmlNodeImpl implements Serializable, XmlNode {
 
     protected final Object location;
 
+    /**
+     * The children by name, in document order, built on first use for nodes with many children.
+     */
+    private transient volatile Map<String, List<XmlNode>> childrenByName;
+
+    /**
+     * The cached hash code, or {@code 0} if not computed yet.
+     */
+    private transient int hash;
+
     public XmlNodeImpl(String name) {
         this(name, null, null, null, null);
     }
@@ -123,6 +135,10 @@ public String getAttribute(String name) {
 
     public XmlNode getChild(String name) {
         if (name != null) {
+            if (children.size() >= CHILDREN_INDEX_THRESHOLD) {
+                List<XmlNode> named = getChildrenByName().get(name);
+                return named != null ? named.get(named.size() - 1) : null;
+            }
             ListIterator<XmlNode> it = children.listIterator(children.size());
             while (it.hasPrevious()) {
                 XmlNode child = it.previous();
@@ -142,6 +158,62 @@ public int getChildCount() {
         return children.size();
     }
 
+    private Map<String, List<XmlNode>> getChildrenByName() {
+        Map<String, List<XmlNode>> index = childrenByName;
+        if (index == null) {
+            index = new HashMap<>();
+            for (XmlNode child : children) {
+                index.computeIfAbsent(child.getName(), k -> new ArrayList<>(1)).add(child);
+            }
+            childrenByName = index;
+        }
+        return index;
+    }
+
+    /**
+     * Gets the children of the given node with the given name, in document order.
+     */
+    private static List<XmlNode> getChildren(XmlNode node, String name) {
+        List<XmlNode> children = node.getChildren();
+        if (node instanceof XmlNodeImpl && children.size() >= CHILDREN_INDEX_THRESHOLD) {
+            return ((XmlNodeImpl) node).getChildrenByName().getOrDefault(name, Collections.emptyList());
+        }
+        List<XmlNode> named = new ArrayList<>();
+        for (XmlNode child : children) {
+            if (name.equals(child.getName())) {
+                named.add(child);
+            }
+        }
+        return named;
+    }
+
+    /**
+     * Gets the index of the first element of the list equal to the given node, like {@link List#indexOf(Object)},
+     * using the given map of first indices for long lists.
+     */
+    private static int indexOf(List<XmlNode> nodes, XmlNode node, Map<XmlNode, Integer> firstIndices) {
+        if (firstIndices == null) {
+            return nodes.indexOf(node);
+        }
+        Integer index = firstIndices.get(node);
+        return index != null ? index : -1;
+    }
+
+    /**
+     * Maps the elements of a long list to the index of their first occurrence, or returns {@code null} for short
+     * lists which are cheaper to scan.
+     */
+    private static Map<XmlNode, Integer> firstIndices(List<XmlNode> nodes) {
+        if (nodes.size() < CHILDREN_INDEX_THRESHOLD) {
+            return null;
+        }
+        Map<XmlNode, Integer> indices = new HashMap<>(nodes.size() * 2);
+        for (int i = 0; i < nodes.size(); i++) {
+            indices.putIfAbsent(nodes.get(i), i);
+        }
+        return indices;
+    }
+
     // ----------------------------------------------------------------------
     // Input location handling
     // ----------------------------------------------------------------------
@@ -250,62 +322,64 @@ public static XmlNode merge(XmlNode dominant, XmlNode recessive, Boolean childMe
                 }
 
                 Map<String, Iterator<XmlNode>> commonChildren = new HashMap<>();
-                Set<String> names =
-                        recessive.getChildren().stream().map(XmlNode::getName).collect(Collectors.toSet());
-                for (String name : names) {
-                    List<XmlNode> dominantChildren = dominant.getChildren().stream()
-                            .filter(n -> n.getName().equals(name))
-                            .collect(Collectors.toList());
-                    if (dominantChildren.size() > 0) {
-                        commonChildren.put(name, dominantChildren.iterator());
+                for (XmlNode recessiveChild : recessive.getChildren()) {
+                    String name = recessiveChild.getName();
+                    if (!commonChildren.containsKey(name)) {
+                        List<XmlNode> dominantChildren = getChildren(dominant, name);
+                        if (dominantChildren.size() > 0) {
+                            commonChildren.put(name, dominantChildren.iterator());
+                        }
                     }
                 }
 
                 String keysValue = recessive.getAttribute(KEYS_COMBINATION_MODE_ATTRIBUTE);
+                String[] keys = isNotEmpty(keysValue) ? keysValue.split(",") : null;
+
+                // the lookups below are built on first use, so that merging stays linear in the number of children
+                Map<String, XmlNode> dominantChildrenById = null;
+                Map<List<String>, XmlNode> dominantChildrenByKeys = null;
+                Map<XmlNode, Integer> dominantIndices = firstIndices(dominant.getChildren());
+                Map<XmlNode, Integer> recessiveIndices = null;
 
                 for (XmlNode recessiveChild : recessive.getChildren()) {
                     String idValue = recessiveChild.getAttribute(ID_COMBINATION_MODE_ATTRIBUTE);
 
                     XmlNode childDom = null;
                     if (isNotEmpty(idValue)) {
-                        for (XmlNode dominantChild : dominant.getChildren()) {
-                            if (idValue.equals(dominantChild.getAttribute(ID_COMBINATION_MODE_ATTRIBUTE))) {
-                                childDom = dominantChild;
-                                // we have a match, so don't append but merge
-                                mergeChildren = true;
+                        if (dominantChildrenById == null) {
+                            dominantChildrenById = new HashMap<>();
+                            for (XmlNode dominantChild : dominant.getChildren()) {
+                                String dominantIdValue = dominantChild.getAttribute(ID_COMBINATION_MODE_ATTRIBUTE);
+                                if (dominantIdValue != null) {
+                                    // the last matching child wins
+                                    dominantChildrenById.put(dominantIdValue, dominantChild);
+                                }
                             }
                         }
-                    } else if (isNotEmpty(keysValue)) {
-                        String[] keys = keysValue.split(",");
-                        Map<String, Optional<String>> recessiveKeyValues = Stream.of(keys)
-                                .collect(Collectors.toMap(
-                                        k -> k, k -> Optional.ofNullable(recessiveChild.getAttribute(k))));
-
-                        for (XmlNode dominantChild : dominant.getChildren()) {
-                            Map<String, Optional<String>> dominantKeyValues = Stream.of(keys)
-                                    .collect(Collectors.toMap(
-                                            k -> k, k -> Optional.ofNullable(dominantChild.getAttribute(k))));
-
-                            if (recessiveKeyValues.equals(dominantKeyValues)) {
-                                childDom = dominantChild;
-                                // we have a match, so don't append but merge
-                                mergeChildren = true;
+                        childDom = dominantChildrenById.get(idValue);
+                        if (childDom != null) {
+                            // we have a match, so don't append but merge
+                            mergeChildren = true;
+                        }
+                    } else if (keys != null) {
+                        if (dominantChildrenByKeys == null) {
+                            dominantChildrenByKeys = new HashMap<>();
+                            for (XmlNode dominantChild : dominant.getChildren()) {
+                                // the last matching child wins
+                                dominantChildrenByKeys.put(getAttributes(dominantChild, keys), dominantChild);
                             }
                         }
+                        childDom = dominantChildrenByKeys.get(getAttributes(recessiveChild, keys));
+                        if (childDom != null) {
+                            // we have a match, so don't append but merge
+                            mergeChildren = true;
+                        }
                     } else {
                         childDom = dominant.getChild(recessiveChild.getName());
                     }
 
                     if (mergeChildren && childDom != null) {
-                        String name = recessiveChild.getName();
-                        Iterator<XmlNode> it =
-                                commonChildren.computeIfAbsent(name, n1 -> Stream.of(dominant.getChildren().stream()
-                                                .filter(n2 -> n2.getName().equals(n1))
-                                                .collect(Collectors.toList()))
-                                        .filter(l -> !l.isEmpty())
-                                        .map(List::iterator)
-                                        .findFirst()
-                                        .orElse(null));
+                        Iterator<XmlNode> it = commonChildren.get(recessiveChild.getName());
                         if (it == null) {
                             if (children == null) {
                                 children = new ArrayList<>(dominant.getChildren());
@@ -322,7 +396,7 @@ public static XmlNode merge(XmlNode dominant, XmlNode recessive, Boolean childMe
                                 }
                                 children.remove(dominantChild);
                             } else {
-                                int idx = dominant.getChildren().indexOf(dominantChild);
+                                int idx = indexOf(dominant.getChildren(), dominantChild, dominantIndices);
                                 XmlNode merged = merge(dominantChild, recessiveChild, childMergeOverride);
                                 if (merged != dominantChild) {
                                     if (children == null) {
@@ -336,20 +410,26 @@ public static XmlNode merge(XmlNode dominant, XmlNode recessive, Boolean childMe
                         if (children == null) {
                             children = new ArrayList<>(dominant.getChildren());
                         }
-                        int idx = mergeChildren
-                                ? children.size()
-                                : recessive.getChildren().indexOf(recessiveChild);
+                        int idx;
+                        if (mergeChildren) {
+                            idx = children.size();
+                        } else {
+                            if (recessiveIndices == null) {
+                                recessiveIndices = firstIndices(recessive.getChildren());
+                            }
+                            idx = indexOf(recessive.getChildren(), recessiveChild, recessiveIndices);
+                        }
                         children.add(idx, recessiveChild);
                     }
                 }
             }
 
-            if (value != null || attrs != dominant.getAttributes() || children != null) {
+            // an unchanged node is returned as is, so that equal subtrees stay shared
+            if (attrs != dominant.getAttributes() || children != null) {
                 if (children == null) {
                     children = dominant.getChildren();
                 }
-                return new XmlNodeImpl(
-                        dominant.getName(), value != null ? value : dominant.getValue(), attrs, children, location);
+                return new XmlNodeImpl(dominant.getName(), value, attrs, children, location);
             }
         }
         return dominant;
@@ -390,7 +470,12 @@ public boolean equals(Object o) {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, value, attributes, children);
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(name, value, attributes, children);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -407,6 +492,17 @@ public String toUnescapedString() {
         return writer.toString();
     }
 
+    /**
+     * Gets the values of the given attributes of a node, {@code null} for missing ones.
+     */
+    private static List<String> getAttributes(XmlNode node, String[] keys) {
+        String[] values = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = node.getAttribute(keys[i]);
+        }
+        return Arrays.asList(values);
+    }
+
     private static boolean isNotEmpty(String str) {
         return ((str != null) && (str.length() > 0));
     }
@@ -40,6 +40,7 @@
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 class XmlNodeImplTest {
 
@@ -626,6 +627,82 @@ void testMergeCombineChildrenAppendOnRecessive() throws XMLStreamException, IOEx
         assertEquals(expected, m.toString().replaceAll("\r\n", "\n"));
     }
 
+    @Test
+    void testMergeManyChildren() throws Exception {
+        StringBuilder dominant = new StringBuilder("<configuration>");
+        StringBuilder recessive = new StringBuilder("<configuration>");
+        StringBuilder expected = new StringBuilder("<configuration>");
+        for (int i = 0; i < 10; i++) {
+            dominant.append("<p")
+                    .append(i)
+                    .append(">d")
+                    .append(i)
+                    .append("</p")
+                    .append(i)
+                    .append(">");
+            recessive
+                    .append("<p")
+                    .append(i)
+                    .append(">r")
+                    .append(i)
+                    .append("</p")
+                    .append(i)
+                    .append(">");
+            expected.append("<p")
+                    .append(i)
+                    .append(">d")
+                    .append(i)
+                    .append("</p")
+                    .append(i)
+                    .append(">");
+        }
+        dominant.append("<item>a</item><item>b</item></configuration>");
+        recessive.append("<item>c</item><item>d</item><item>e</item><extra>x</extra></configuration>");
+        expected.append("<item>a</item><item>b</item><extra>x</extra></configuration>");
+
+        XmlNode d = toXmlNode(dominant.toString());
+        XmlNode r = toXmlNode(recessive.toString());
+        XmlNode m = d.merge(r);
+
+        assertEquals(toXmlNode(expected.toString()), m);
+        assertEquals("b", m.getChild("item").getValue());
+        assertEquals("d9", m.getChild("p9").getValue());
+        assertNull(m.getChild("missing"));
+    }
+
+    @Test
+    void testMergeSharesUnchangedSubtrees() throws Exception {
+        XmlNode parent = toXmlNode(
+                "<configuration><foo>p</foo><bar><baz>p</baz></bar><qux><quux>p</quux></qux></configuration>");
+        XmlNode child1 = toXmlNode("<configuration><foo>1</foo></configuration>");
+        XmlNode child2 = toXmlNode("<configuration><foo>2</foo><bar><other>2</other></bar></configuration>");
+
+        XmlNode merged1 = child1.merge(parent);
+        XmlNode merged2 = child2.merge(parent);
+
+        assertEquals(
+                toXmlNode("<configuration><foo>1</foo><bar><baz>p</baz></bar><qux><quux>p</quux></qux>"
+                        + "</configuration>"),
+                merged1);
+        assertEquals(
+                toXmlNode("<configuration><foo>2</foo><bar><other>2</other><baz>p</baz></bar>"
+                        + "<qux><quux>p</quux></qux></configuration>"),
+                merged2);
+
+        // the children keep their own nodes and share the subtrees they inherit unchanged from the parent
+        assertSame(child1.getChild("foo"), merged1.getChild("foo"));
+        assertSame(child2.getChild("foo"), merged2.getChild("foo"));
+        assertSame(parent.getChild("bar"), merged1.getChild("bar"));
+        assertSame(parent.getChild("qux"), merged1.getChild("qux"));
+        assertSame(parent.getChild("qux"), merged2.getChild("qux"));
+        assertSame(
+                parent.getChild("bar").getChild("baz"), merged2.getChild("bar").getChild("baz"));
+
+        // nothing to merge from the parent
+        XmlNode unchanged = toXmlNode("<configuration><foo>p</foo></configuration>");
+        assertSame(child1, child1.merge(unchanged));
+    }
+
     private static List<XmlNode> getChildren(XmlNode node, String name) {
         return node.getChildren().stream().filter(n -> n.getName().equals(name)).collect(Collectors.toList());
     }
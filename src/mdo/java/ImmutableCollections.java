@@ -29,6 +29,7 @@
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Properties;
 import java.util.RandomAccess;
 import java.util.Set;
@@ -450,6 +451,16 @@ private Map1(K key, V value) {
             this.entry = new SimpleImmutableEntry<>(key, value);
         }
 
+        @Override
+        public V get(Object key) {
+            return Objects.equals(entry.getKey(), key) ? entry.getValue() : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return Objects.equals(entry.getKey(), key);
+        }
+
         @Override
         public Set<Entry<K, V>> entrySet() {
             return new AbstractImmutableSet<Entry<K, V>>() {
@@ -482,14 +493,45 @@ public int size() {
     }
 
     private static class MapN<K, V> extends AbstractImmutableMap<K, V> {
+        /**
+         * Keys and values stored alternately, so that no entry object is retained per mapping.
+         */
         private final Object[] entries;
 
         private MapN(Map<K, V> map) {
-            entries = map != null
-                    ? map.entrySet().stream()
-                            .map(e -> new SimpleImmutableEntry<>(e.getKey(), e.getValue()))
-                            .toArray()
-                    : new Object[0];
+            Object[] entries = new Object[map.size() * 2];
+            int index = 0;
+            for (Entry<K, V> entry : map.entrySet()) {
+                entries[index++] = entry.getKey();
+                entries[index++] = entry.getValue();
+            }
+            this.entries = entries;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public V get(Object key) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (Objects.equals(entries[i], key)) {
+                    return (V) entries[i + 1];
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            for (int i = 0; i < entries.length; i += 2) {
+                if (Objects.equals(entries[i], key)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int size() {
+            return entries.length / 2;
         }
 
         @Override
@@ -509,7 +551,10 @@ public boolean hasNext() {
                         @Override
                         public Entry<K, V> next() {
                             if (index < entries.length) {
-                                return (Entry<K, V>) entries[index++];
+                                Entry<K, V> entry =
+                                        new SimpleImmutableEntry<>((K) entries[index], (V) entries[index + 1]);
+                                index += 2;
+                                return entry;
                             }
                             throw new NoSuchElementException();
                         }
@@ -518,7 +563,7 @@ public Entry<K, V> next() {
 
                 @Override
                 public int size() {
-                    return entries.length;
+                    return entries.length / 2;
                 }
             };
         }